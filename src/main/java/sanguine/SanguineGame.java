@@ -8,8 +8,10 @@ import sanguine.controller.SanguineController;
 import sanguine.model.BasicSanguine;
 import sanguine.model.Player;
 import static sanguine.model.Player.RED;
+import sanguine.strategies.AlphaBetaStrategy;
 import sanguine.strategies.FillFirst;
 import sanguine.strategies.MaximizeRowScore;
+import sanguine.strategies.MonteCarloStrategy;
 import sanguine.strategies.Strategy;
 import sanguine.view.SanguineVisualView;
 
@@ -30,7 +32,7 @@ public final class SanguineGame {
     if (args.length != 6) {
       System.out.println("java sanguine.SanguineGame rows cols redDeck"
           + " blueDeck redPlayer bluePlayer");
-      System.out.println("Player types: human, fillfirst, maxrow");
+      System.out.println("Player types: human, fillfirst, maxrow, alphabeta, mcts");
       System.out.println(args.length);
       return;
     }
@@ -82,8 +84,14 @@ public final class SanguineGame {
       case "maxrow" -> {
           return new AiPlayer(new MaximizeRowScoreAdapter());
           }
+      case "alphabeta" -> {
+          return new AiPlayer(new AlphaBetaStrategy(1000));
+          }
+      case "mcts" -> {
+          return new AiPlayer(new MonteCarloStrategy(1000));
+          }
       default -> throw new IllegalArgumentException("Unknown player type: " + type
-          + ". Use: human, fillfirst, maxrow");
+          + ". Use: human, fillfirst, maxrow, alphabeta, mcts");
     }
   }
 
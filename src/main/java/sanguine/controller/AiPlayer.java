@@ -38,9 +38,35 @@ public class AiPlayer implements PlayablePlayer, ActionPublisher {
     if (publisher == null) {
       throw new IllegalStateException("AIPlayer: setActionListener() was never called");
     }
+    Move move = decide(model, player);
+    play(move, player);
+    return move;
+  }
 
-    Move move = strategy.chooseMove(model, player);
+  /**
+   * Asks the strategy for a move without acting on it. This may take as long as the
+   * strategy searches, so callers on the GUI thread should run it elsewhere and hand the
+   * result to {@link #play(Move, Player)}.
+   *
+   * @param model  current read-only game state
+   * @param player the player to move
+   * @return the move the strategy chose
+   */
+  public Move decide(ReadOnlySanguineModel model, Player player) {
+    return strategy.chooseMove(model, player);
+  }
 
+  /**
+   * Makes the given move through the action listener, as a human would through the view.
+   *
+   * @param move   the move to make
+   * @param player the player making it
+   * @throws IllegalStateException if no action listener was set
+   */
+  public void play(Move move, Player player) {
+    if (publisher == null) {
+      throw new IllegalStateException("AIPlayer: setActionListener() was never called");
+    }
     if (move.isPass()) {
       publisher.passTurn();
     } else {
@@ -48,6 +74,5 @@ public class AiPlayer implements PlayablePlayer, ActionPublisher {
       publisher.cellSelected(move.getRow(), move.getCol());
       publisher.confirmMove();
     }
-    return move;
   }
 }
\ No newline at end of file
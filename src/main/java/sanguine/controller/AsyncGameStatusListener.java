@@ -0,0 +1,97 @@
+package sanguine.controller;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import sanguine.model.Player;
+
+/**
+ * A listener that passes events on to another listener through an executor instead of on
+ * the thread that made the move, so a slow listener does not hold up the game. Events for
+ * one wrapped listener are delivered one at a time in the order they happened, even on a
+ * multi-threaded executor; different wrapped listeners may run in parallel.
+ *
+ * <p>By the time an event is delivered the game may have moved on, so the wrapped
+ * listener should rely on the event's arguments, or read a model that is safe to read
+ * from other threads such as {@link sanguine.model.ConcurrentSanguine}. Swing listeners
+ * can use {@code SwingUtilities::invokeLater} as the executor.
+ */
+public final class AsyncGameStatusListener implements GameStatusListener {
+  private final GameStatusListener delegate;
+  private final Executor executor;
+  private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  /**
+   * Wraps a listener so its events are delivered on the given executor.
+   *
+   * @param delegate the listener to deliver events to
+   * @param executor the executor to deliver them on
+   * @throws IllegalArgumentException if either argument is null
+   */
+  public AsyncGameStatusListener(GameStatusListener delegate, Executor executor) {
+    if (delegate == null || executor == null) {
+      throw new IllegalArgumentException("listener and executor cannot be null");
+    }
+    this.delegate = delegate;
+    this.executor = executor;
+  }
+
+  /**
+   * Returns the listener events are delivered to.
+   *
+   * @return the wrapped listener
+   */
+  public GameStatusListener getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public void turnChanged(Player currentPlayer) {
+    enqueue(() -> delegate.turnChanged(currentPlayer));
+  }
+
+  @Override
+  public void gameOver(Player winner, int redScore, int blueScore) {
+    enqueue(() -> delegate.gameOver(winner, redScore, blueScore));
+  }
+
+  private void enqueue(Runnable event) {
+    pending.add(event);
+    schedule();
+  }
+
+  /**
+   * Starts a drain task unless one is already queued or running.
+   */
+  private void schedule() {
+    if (scheduled.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        scheduled.set(false);
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Delivers queued events in order. If an event throws, the rest are delivered by a new
+   * task and the exception is left to the executor.
+   */
+  private void drain() {
+    try {
+      Runnable event;
+      while ((event = pending.poll()) != null) {
+        event.run();
+      }
+    } finally {
+      scheduled.set(false);
+      if (!pending.isEmpty()) {
+        schedule();
+      }
+    }
+  }
+}
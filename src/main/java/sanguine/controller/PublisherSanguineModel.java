@@ -1,5 +1,6 @@
 package sanguine.controller;
 
+import sanguine.model.MoveBuffer;
 import sanguine.model.SanguineModel;
 
 /**
@@ -18,4 +19,29 @@ public interface PublisherSanguineModel extends SanguineModel {
    * Tells the player when it's their move.
    */
   void startGame();
+
+  /**
+   * Applies the given plays and passes in order, each for whoever's turn it is at that
+   * point, for fast-forwarding replays or restoring saved games. Plays are packed as in
+   * {@link MoveBuffer#encode(int, int, int)} and passes are {@link MoveBuffer#PASS}.
+   * Models that support it notify listeners once at the end instead of after every move;
+   * this default simply plays the moves one by one.
+   *
+   * @param moves the packed moves to apply
+   * @throws IllegalArgumentException if moves is null or a move is invalid
+   * @throws IllegalStateException if a move is not legal, after the earlier moves have
+   *     been applied
+   */
+  default void applyMoves(int... moves) {
+    if (moves == null) {
+      throw new IllegalArgumentException("moves cannot be null");
+    }
+    for (int move : moves) {
+      if (move == MoveBuffer.PASS) {
+        pass();
+      } else {
+        playCard(MoveBuffer.cardIndex(move), MoveBuffer.row(move), MoveBuffer.col(move));
+      }
+    }
+  }
 }
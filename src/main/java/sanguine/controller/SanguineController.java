@@ -1,8 +1,12 @@
 package sanguine.controller;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 import sanguine.model.Player;
 import sanguine.strategies.ActionPublisher;
+import sanguine.strategies.Move;
 import sanguine.view.SanguineVisualView;
 
 /**
@@ -16,6 +20,8 @@ public class SanguineController implements PlayerActionListener, GameStatusListe
   private final SanguineVisualView view;
   private final PlayablePlayer player;
   private final Player myPlayer;
+  // runs AI searches, which can take seconds, off the Swing event thread
+  private final ExecutorService searcher;
 
   private int selectedCardIndex = -1;
   private int selectedRow = -1;
@@ -38,6 +44,11 @@ public class SanguineController implements PlayerActionListener, GameStatusListe
     this.view = view;
     this.player = player;
     this.myPlayer = myPlayer;
+    this.searcher = Executors.newSingleThreadExecutor(task -> {
+      Thread thread = new Thread(task, "sanguine-ai-" + myPlayer);
+      thread.setDaemon(true);
+      return thread;
+    });
 
     view.addPlayerActionListener(this);
     model.addGameStatusListener(this);
@@ -57,9 +68,15 @@ public class SanguineController implements PlayerActionListener, GameStatusListe
     clearSelection();
     view.refresh();
 
-    if (isMyTurn && player instanceof AiPlayer) {
-      javax.swing.SwingUtilities.invokeLater(() -> {
-        player.chooseMove(model, myPlayer);
+    if (isMyTurn && player instanceof AiPlayer ai) {
+      // search in the background and make only the chosen move on the event thread
+      searcher.execute(() -> {
+        Move move = ai.decide(model, myPlayer);
+        SwingUtilities.invokeLater(() -> {
+          if (isMyTurn && model.getCurrentPlayer() == myPlayer) {
+            ai.play(move, myPlayer);
+          }
+        });
       });
     }
   }
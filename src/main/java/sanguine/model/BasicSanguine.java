@@ -1,7 +1,12 @@
 package sanguine.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import sanguine.controller.AsyncGameStatusListener;
 import sanguine.controller.GameStatusListener;
 import sanguine.controller.PublisherSanguineModel;
 
@@ -10,68 +15,260 @@ import sanguine.controller.PublisherSanguineModel;
  */
 public class BasicSanguine implements PublisherSanguineModel, ReadOnlySanguineModel {
   private final SanguineBoard board;
-  private final List<SanguineCard> redDeck;
-  private final List<SanguineCard> blueDeck;
-  private final List<SanguineCard> redHand;
-  private final List<SanguineCard> blueHand;
+  // the deck in file order; each player draws from their own order of it (the same
+  // array unless the game was shuffled), neither of which is ever modified, keeping a
+  // cursor to the next card they will draw
+  private final int[] deck;
+  private final int[] redDeck;
+  private final int[] blueDeck;
+  // the Zobrist key of the draw order, which never changes during a game
+  private final long orderKey;
+  private final boolean shuffled;
+  private final long seed;
+  // the first position in the deck of each card id, -1 for cards not in the deck
+  private final int[] deckIndexById;
+  private int redDrawn;
+  private int blueDrawn;
+  private final Hand redHand;
+  private final Hand blueHand;
   private Player currentPlayer;
   private int consecutivePasses;
   private final int handSize;
   private final List<GameStatusListener> statusListeners = new ArrayList<>();
+  // what events are actually sent to: the listeners themselves, or asynchronous wrappers
+  // around them when a dispatch executor is set
+  private final List<GameStatusListener> dispatchListeners = new ArrayList<>();
+  private Executor dispatchExecutor;
+  private int[] undoCards = new int[16];
+  private int undoCardCount;
+  private long handKey;
+  // set while applyMoves runs, so listeners are told once at the end of the batch
+  private boolean batching;
+  // how many moves have been played with playCard and pass
+  private long movesPlayed;
+
+  private static final long UNDO_PASS = 0xFFFFL;
 
   /**
    * Initializes a new game of basic sanguine.model.Sanguine.
    *
-   * @param rows      board height (>0)
-   * @param cols      board width (odd, >1)
+   * @param rows      board height (>0, ≤1024)
+   * @param cols      board width (odd, >1, ≤1024)
    * @param deckFile  path to a deck configuration
-   * @param handSize  ≤ deck size/3
+   * @param handSize  ≤ deck size/3 and ≤ 2048
    */
   //INVARIANT: number of columns is odd. This is a logical statement, an instantaneous state,
   // upheld by the constructor (the BasicSanguineBoard constructor throws an exception if the
   // columns aren't odd), and maintained by the methods (no method mutates the number of columns)
   public BasicSanguine(int rows, int cols, String deckFile, int handSize) {
+    this(new BasicSanguineBoard(rows, cols), deckFile, handSize);
+  }
+
+  /**
+   * Initializes a new game of basic sanguine.model.Sanguine played on the given empty board,
+   * which lets callers choose the board implementation (for example a
+   * {@link BitboardSanguineBoard} for simulations).
+   *
+   * @param board     the empty board to play on, at most 1024 cells each way
+   * @param deckFile  path to a deck configuration
+   * @param handSize  ≤ deck size/3 and ≤ 2048
+   */
+  public BasicSanguine(SanguineBoard board, String deckFile, int handSize) {
+    this(board, deckFile, handSize, false, 0);
+  }
+
+  /**
+   * Initializes a new game of basic sanguine.model.Sanguine in which each player's deck is
+   * shuffled. The same seed always deals the same game, and {@link #getSeed()} returns it
+   * so the game can be reproduced. Each player's shuffle uses its own stream split from
+   * the seed's {@link SplittableRandom}, so simulations running in parallel can give every
+   * game a seed drawn from one master generator and get independent, repeatable deals.
+   *
+   * @param rows      board height (>0, ≤1024)
+   * @param cols      board width (odd, >1, ≤1024)
+   * @param deckFile  path to a deck configuration
+   * @param handSize  ≤ deck size/3 and ≤ 2048
+   * @param seed      the seed to shuffle with
+   */
+  public BasicSanguine(int rows, int cols, String deckFile, int handSize, long seed) {
+    this(new BasicSanguineBoard(rows, cols), deckFile, handSize, seed);
+  }
+
+  /**
+   * Initializes a new game of basic sanguine.model.Sanguine on the given empty board in
+   * which each player's deck is shuffled, as in
+   * {@link #BasicSanguine(int, int, String, int, long)}.
+   *
+   * @param board     the empty board to play on, at most 1024 cells each way
+   * @param deckFile  path to a deck configuration
+   * @param handSize  ≤ deck size/3 and ≤ 2048
+   * @param seed      the seed to shuffle with
+   */
+  public BasicSanguine(SanguineBoard board, String deckFile, int handSize, long seed) {
+    this(board, deckFile, handSize, true, seed);
+  }
+
+  private BasicSanguine(SanguineBoard board, String deckFile, int handSize, boolean shuffled,
+                        long seed) {
+    if (board == null) {
+      throw new IllegalArgumentException("board cannot be null");
+    }
     if (handSize < 0) {
       throw new IllegalArgumentException("handSize negative");
     }
-    this.board = new BasicSanguineBoard(rows, cols);
+    // every legal move must fit in a packed MoveBuffer move; hands never outgrow
+    // max(handSize, 5), since cards are only drawn into smaller hands
+    if (board.getHeight() > MoveBuffer.MAX_POSITION + 1
+        || board.getWidth() > MoveBuffer.MAX_POSITION + 1) {
+      throw new IllegalArgumentException("board too large");
+    }
+    if (handSize > MoveBuffer.MAX_CARD_INDEX + 1) {
+      throw new IllegalArgumentException("hand size too large");
+    }
+    this.board = board;
 
-    List<SanguineCard> master = DeckReader.readDeck(deckFile);
-    if (master.size() < rows * cols) {
+    // the cached arrays are shared between games, which only ever read them
+    DeckCache.Entry cached = DeckCache.entry(deckFile);
+    if (cached.ids().length < board.getHeight() * board.getWidth()) {
       throw new IllegalArgumentException("deck too small for board");
     }
-    if (handSize > master.size() / 3) {
+    if (handSize > cached.ids().length / 3) {
       throw new IllegalArgumentException("hand size too large");
     }
 
-    this.redDeck = new ArrayList<>(master);
-    this.blueDeck = new ArrayList<>(master);
+    this.deck = cached.ids();
+    this.deckIndexById = cached.indexById();
+    this.shuffled = shuffled;
+    this.seed = seed;
+    if (shuffled) {
+      SplittableRandom random = new SplittableRandom(seed);
+      this.redDeck = shuffle(deck, random.split());
+      this.blueDeck = shuffle(deck, random.split());
+    } else {
+      this.redDeck = deck;
+      this.blueDeck = deck;
+    }
+    this.orderKey = Zobrist.orderKey(redDeck, blueDeck);
     this.handSize = handSize;
-    this.redHand = new ArrayList<>();
-    this.blueHand = new ArrayList<>();
+    this.redHand = new Hand(Math.max(handSize, 5));
+    this.blueHand = new Hand(Math.max(handSize, 5));
 
     for (int i = 0; i < handSize; i++) {
-      redHand.add(redDeck.remove(0));
-      blueHand.add(blueDeck.remove(0));
+      redHand.add(redDeck[redDrawn++]);
+      blueHand.add(blueDeck[blueDrawn++]);
+      handKey += Zobrist.handKey(Player.RED, redHand.get(i))
+          + Zobrist.handKey(Player.BLUE, blueHand.get(i));
     }
 
     this.currentPlayer = Player.RED;
     this.consecutivePasses = 0;
   }
 
+  /**
+   * Creates an independent copy of the given game, without its listeners, in which the
+   * players draw their decks in the given orders.
+   */
+  private BasicSanguine(BasicSanguine other, int[] redOrder, int[] blueOrder) {
+    this.board = new BasicSanguineBoard(other.board.snapshot());
+    this.deck = other.deck;
+    this.redDeck = redOrder;
+    this.blueDeck = blueOrder;
+    this.orderKey = redOrder == other.redDeck && blueOrder == other.blueDeck
+        ? other.orderKey : Zobrist.orderKey(redOrder, blueOrder);
+    this.shuffled = other.shuffled;
+    this.seed = other.seed;
+    this.deckIndexById = other.deckIndexById;
+    this.redDrawn = other.redDrawn;
+    this.blueDrawn = other.blueDrawn;
+    this.redHand = other.redHand.copy();
+    this.blueHand = other.blueHand.copy();
+    this.currentPlayer = other.currentPlayer;
+    this.consecutivePasses = other.consecutivePasses;
+    this.handSize = other.handSize;
+    this.handKey = other.handKey;
+    this.movesPlayed = other.movesPlayed;
+  }
+
+  /**
+   * Returns an independent copy of this game as it is now, including the order both
+   * players will draw their decks in. The copy has no listeners, and moves made on either
+   * game do not affect the other, so it can be searched with
+   * {@link #makeMove(int, int, int)} while this game goes on. Moves already made with
+   * {@link #makeMove(int, int, int)} cannot be unmade on the copy.
+   *
+   * @return a copy of this game.
+   */
+  public BasicSanguine copy() {
+    return new BasicSanguine(this, redDeck, blueDeck);
+  }
+
+  /**
+   * Returns a copy of this game as the given player could imagine it: the cards they
+   * cannot see are dealt again at random. The opponent's hand and the cards left in their
+   * deck are shuffled together and the hand is refilled from them, and the cards left in
+   * the viewer's own deck are shuffled. The board, the viewer's hand and every count stay
+   * as they are, so the viewer's legal moves are unchanged. Like {@link #copy()}, the copy
+   * has no listeners and is meant for searching; its deck orders no longer match the cards
+   * already drawn, so it should not be encoded.
+   *
+   * @param viewer the player whose view of the game to sample
+   * @param random the source of the new deal
+   * @return a copy of this game with the hidden cards dealt again.
+   * @throws IllegalArgumentException if the viewer or random is null
+   */
+  public BasicSanguine determinize(Player viewer, SplittableRandom random) {
+    if (viewer == null || random == null) {
+      throw new IllegalArgumentException("viewer and random cannot be null");
+    }
+    Player opponent = viewer.opponent();
+    int viewerDrawn = drawnCount(viewer);
+    int[] viewerOrder = deckIds(viewer).clone();
+    shuffleFrom(viewerOrder, viewerDrawn, random);
+
+    Hand hidden = opponent == Player.RED ? redHand : blueHand;
+    int opponentDrawn = drawnCount(opponent);
+    int[] opponentOrder = deckIds(opponent).clone();
+    // the opponent's hand followed by their undrawn cards, dealt again from the front
+    int[] unseen = new int[hidden.size() + opponentOrder.length - opponentDrawn];
+    for (int i = 0; i < hidden.size(); i++) {
+      unseen[i] = hidden.get(i);
+    }
+    System.arraycopy(opponentOrder, opponentDrawn, unseen, hidden.size(),
+        opponentOrder.length - opponentDrawn);
+    shuffleFrom(unseen, 0, random);
+    System.arraycopy(unseen, hidden.size(), opponentOrder, opponentDrawn,
+        opponentOrder.length - opponentDrawn);
+
+    BasicSanguine sample = viewer == Player.RED
+        ? new BasicSanguine(this, viewerOrder, opponentOrder)
+        : new BasicSanguine(this, opponentOrder, viewerOrder);
+    Hand hand = opponent == Player.RED ? sample.redHand : sample.blueHand;
+    for (int i = 0; i < hand.size(); i++) {
+      sample.handKey -= Zobrist.handKey(opponent, hand.get(i));
+    }
+    hand.clear();
+    for (int i = 0; i < hidden.size(); i++) {
+      hand.add(unseen[i]);
+      sample.handKey += Zobrist.handKey(opponent, unseen[i]);
+    }
+    return sample;
+  }
+
   @Override
   public void playCard(int cardIndex, int row, int col) {
-    List<SanguineCard> hand = currentPlayer == Player.RED ? redHand : blueHand;
+    Hand hand = currentPlayer == Player.RED ? redHand : blueHand;
     if (cardIndex < 0 || cardIndex >= hand.size()) {
       throw new IllegalArgumentException("invalid card index");
     }
 
-    SanguineCard card = hand.get(cardIndex);
-    board.playCard(card, currentPlayer, row, col);
+    int card = hand.get(cardIndex);
+    board.playCard(CardRegistry.card(card), currentPlayer, row, col);
 
     hand.remove(cardIndex);
+    handKey -= Zobrist.handKey(currentPlayer, card);
     drawIfPossible();
     consecutivePasses = 0;
+    movesPlayed++;
     switchTurn();
 
     if (isGameOver()) {
@@ -83,6 +280,7 @@ public class BasicSanguine implements PublisherSanguineModel, ReadOnlySanguineMo
   public void pass() {
     consecutivePasses++;
     drawIfPossible();
+    movesPlayed++;
     switchTurn();
 
     if (isGameOver()) {
@@ -90,6 +288,146 @@ public class BasicSanguine implements PublisherSanguineModel, ReadOnlySanguineMo
     }
   }
 
+  /**
+   * Applies the moves like {@link PublisherSanguineModel#applyMoves(int...)}, but tells
+   * listeners only once, after the last move (or after the move that failed): a single
+   * turn change, followed by the end of the game if it is over. If no move was applied,
+   * listeners are not told anything.
+   *
+   * @param moves the packed moves to apply
+   */
+  @Override
+  public void applyMoves(int... moves) {
+    if (moves == null) {
+      throw new IllegalArgumentException("moves cannot be null");
+    }
+    if (batching) {
+      PublisherSanguineModel.super.applyMoves(moves);
+      return;
+    }
+    long before = movesPlayed;
+    batching = true;
+    try {
+      PublisherSanguineModel.super.applyMoves(moves);
+    } finally {
+      batching = false;
+      if (movesPlayed != before) {
+        notifyTurnChanged();
+        if (isGameOver()) {
+          notifyGameOver();
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns how many moves have been played with {@link #playCard(int, int, int)} and
+   * {@link #pass()}, including those applied in batches, so callers can tell whether a
+   * batch that failed changed anything.
+   */
+  long movesPlayed() {
+    return movesPlayed;
+  }
+
+  /**
+   * Plays the card for the current player exactly like {@link #playCard(int, int, int)},
+   * but without notifying listeners, and returns a record that {@link #unmakeMove(long)}
+   * uses to take the play back. Meant for look-ahead search: moves made this way must be
+   * unmade in the reverse order they were made, and must not be interleaved with
+   * {@link #playCard(int, int, int)} or {@link #pass()}.
+   *
+   * @param cardIndex index of the card in the current player's hand.
+   * @param row row on the board to place the card.
+   * @param col column on the board to place the card.
+   * @return the undo record for this move.
+   * @throws IllegalArgumentException if the card index or position is invalid.
+   * @throws IllegalStateException if the game is over or the move is not legal.
+   */
+  public long makeMove(int cardIndex, int row, int col) {
+    if (isGameOver()) {
+      throw new IllegalStateException("game is over");
+    }
+    Hand hand = currentPlayer == Player.RED ? redHand : blueHand;
+    if (cardIndex < 0 || cardIndex >= hand.size() || cardIndex >= UNDO_PASS) {
+      throw new IllegalArgumentException("invalid card index");
+    }
+
+    int card = hand.get(cardIndex);
+    int mark = board.checkpoint();
+    try {
+      board.playCard(CardRegistry.card(card), currentPlayer, row, col);
+    } catch (RuntimeException e) {
+      board.rollback(mark);
+      throw e;
+    }
+
+    hand.remove(cardIndex);
+    handKey -= Zobrist.handKey(currentPlayer, card);
+    if (undoCardCount == undoCards.length) {
+      undoCards = Arrays.copyOf(undoCards, undoCardCount * 2);
+    }
+    undoCards[undoCardCount++] = card;
+    return finishMake(mark, cardIndex);
+  }
+
+  /**
+   * Passes for the current player exactly like {@link #pass()}, but without notifying
+   * listeners, and returns a record that {@link #unmakeMove(long)} uses to take it back.
+   * The same ordering rules as {@link #makeMove(int, int, int)} apply.
+   *
+   * @return the undo record for this pass.
+   * @throws IllegalStateException if the game is over.
+   */
+  public long makePass() {
+    if (isGameOver()) {
+      throw new IllegalStateException("game is over");
+    }
+    return finishMake(0, UNDO_PASS);
+  }
+
+  /**
+   * Draws, updates the pass counter and switches the turn for a made move, and packs the
+   * undo record: the board mark in bits 0-31, the card index (or all ones for a pass) in
+   * bits 32-47, whether a card was drawn in bit 48 and the previous pass count in bit 49.
+   */
+  private long finishMake(int mark, long cardIndex) {
+    long prevPasses = consecutivePasses;
+    boolean drew = drawIfPossible();
+    consecutivePasses = cardIndex == UNDO_PASS ? consecutivePasses + 1 : 0;
+    currentPlayer = currentPlayer.opponent();
+    return (mark & 0xFFFFFFFFL) | (cardIndex << 32) | ((drew ? 1L : 0L) << 48)
+        | (prevPasses << 49);
+  }
+
+  /**
+   * Takes back the most recent move made by {@link #makeMove(int, int, int)} or
+   * {@link #makePass()}, restoring the board, row scores, hands, decks, current player and
+   * pass counter. Listeners are not notified.
+   *
+   * @param undo the record returned when the move was made.
+   */
+  public void unmakeMove(long undo) {
+    currentPlayer = currentPlayer.opponent();
+    consecutivePasses = (int) ((undo >>> 49) & 1);
+    Hand hand = currentPlayer == Player.RED ? redHand : blueHand;
+    if (((undo >>> 48) & 1) != 0) {
+      int drawn = hand.remove(hand.size() - 1);
+      if (currentPlayer == Player.RED) {
+        redDrawn--;
+      } else {
+        blueDrawn--;
+      }
+      handKey -= Zobrist.handKey(currentPlayer, drawn);
+    }
+    long cardIndex = (undo >>> 32) & 0xFFFFL;
+    if (cardIndex != UNDO_PASS) {
+      int card = undoCards[--undoCardCount];
+      hand.insert((int) cardIndex, card);
+      handKey += Zobrist.handKey(currentPlayer, card);
+      board.rollback((int) undo);
+    }
+  }
+
   /**
    * Switches the turn of the player from red to blue or blue to red.
    */
@@ -100,18 +438,164 @@ public class BasicSanguine implements PublisherSanguineModel, ReadOnlySanguineMo
 
   /**
    * Draw from the deck to add to the hand if it is valid.
+   *
+   * @return whether a card was drawn
    */
-  private void drawIfPossible() {
-    List<SanguineCard> deck = currentPlayer == Player.RED ? redDeck : blueDeck;
-    List<SanguineCard> hand = currentPlayer == Player.RED ? redHand : blueHand;
-    if (!deck.isEmpty() && hand.size() < 5) {
-      hand.add(deck.remove(0));
+  private boolean drawIfPossible() {
+    Hand hand = currentPlayer == Player.RED ? redHand : blueHand;
+    int drawn = currentPlayer == Player.RED ? redDrawn : blueDrawn;
+    int[] order = currentPlayer == Player.RED ? redDeck : blueDeck;
+    if (drawn < order.length && hand.size() < 5) {
+      hand.add(order[drawn]);
+      if (currentPlayer == Player.RED) {
+        redDrawn++;
+      } else {
+        blueDrawn++;
+      }
+      handKey += Zobrist.handKey(currentPlayer, hand.get(hand.size() - 1));
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns an immutable snapshot of the whole game as it is now, which can be read from
+   * any thread while this game continues. Unchanged board rows are shared with earlier
+   * snapshots, so taking one after every move is cheap.
+   *
+   * @return a snapshot of the current game.
+   */
+  public GameSnapshot snapshot() {
+    return new GameSnapshot(board.snapshot(), List.copyOf(getHand(Player.RED)),
+        List.copyOf(getHand(Player.BLUE)), currentPlayer, isGameOver(), getZobristKey());
+  }
+
+  /**
+   * Returns a shuffled copy of the deck, using a Fisher-Yates shuffle.
+   */
+  private static int[] shuffle(int[] cards, SplittableRandom random) {
+    int[] copy = cards.clone();
+    shuffleFrom(copy, 0, random);
+    return copy;
+  }
+
+  /**
+   * Shuffles the cards from the given index on in place, using a Fisher-Yates shuffle.
+   */
+  private static void shuffleFrom(int[] cards, int from, SplittableRandom random) {
+    for (int i = cards.length - 1; i > from; i--) {
+      int j = from + random.nextInt(i - from + 1);
+      int t = cards[i];
+      cards[i] = cards[j];
+      cards[j] = t;
+    }
+  }
+
+  /**
+   * Returns the seed this game's decks were shuffled with, or an empty value if they are
+   * in file order.
+   *
+   * @return the shuffle seed, if any.
+   */
+  public OptionalLong getSeed() {
+    return shuffled ? OptionalLong.of(seed) : OptionalLong.empty();
+  }
+
+  /**
+   * Returns the ids of the deck in file order. The array is not a copy and must not be
+   * modified.
+   */
+  int[] deckIds() {
+    return deck;
+  }
+
+  /**
+   * Returns the ids of the given player's deck in the order they draw it. The array is not
+   * a copy and must not be modified.
+   */
+  int[] deckIds(Player player) {
+    return player == Player.RED ? redDeck : blueDeck;
+  }
+
+  /**
+   * Returns the first position in the deck of the card with the given id, or -1.
+   */
+  int deckIndexOf(int cardId) {
+    return cardId >= 0 && cardId < deckIndexById.length ? deckIndexById[cardId] : -1;
+  }
+
+  /**
+   * Returns how many cards the given player has drawn from the deck.
+   */
+  int drawnCount(Player player) {
+    return player == Player.RED ? redDrawn : blueDrawn;
+  }
+
+  /**
+   * Returns how many passes were made in a row.
+   */
+  int consecutivePasses() {
+    return consecutivePasses;
+  }
+
+  /**
+   * Replaces the whole game state, without notifying listeners. Used by
+   * {@link GameStateCodec}, which validates the state first. Moves made with
+   * {@link #makeMove(int, int, int)} can no longer be unmade afterwards.
+   *
+   * @param current the player whose turn it is
+   * @param passes the number of passes made in a row
+   * @param redDrawnCount how many cards red has drawn
+   * @param blueDrawnCount how many cards blue has drawn
+   * @param redIds the ids of the cards in red's hand
+   * @param blueIds the ids of the cards in blue's hand
+   * @param cells every cell of the board
+   */
+  void restore(Player current, int passes, int redDrawnCount, int blueDrawnCount,
+               int[] redIds, int[] blueIds, Cell[][] cells) {
+    // moves made before the restore cannot be unmade onto the restored state
+    board.discardCheckpoints();
+    for (int r = 0; r < cells.length; r++) {
+      for (int c = 0; c < cells[r].length; c++) {
+        board.putCell(r, c, cells[r][c]);
+      }
+    }
+    this.currentPlayer = current;
+    this.consecutivePasses = passes;
+    this.redDrawn = redDrawnCount;
+    this.blueDrawn = blueDrawnCount;
+    this.undoCardCount = 0;
+    this.handKey = 0;
+    redHand.clear();
+    blueHand.clear();
+    for (int id : redIds) {
+      redHand.add(id);
+      handKey += Zobrist.handKey(Player.RED, id);
+    }
+    for (int id : blueIds) {
+      blueHand.add(id);
+      handKey += Zobrist.handKey(Player.BLUE, id);
     }
   }
 
   @Override
   public SanguineBoard getBoard() {
-    return new BasicSanguineBoard(this.board);
+    return board.snapshot();
+  }
+
+  /**
+   * Returns the Zobrist key of the whole game state: the board, both hands, how many cards
+   * are left in each deck and the order they will be drawn in, whose turn it is and the
+   * pass count. Every part is maintained incrementally, so this is constant time. Since
+   * the draw order is part of the key, equal-looking positions in differently shuffled
+   * games have different keys and can share a transposition table safely.
+   *
+   * @return the 64-bit key of the current game state.
+   */
+  @Override
+  public long getZobristKey() {
+    return board.getZobristKey() ^ handKey ^ Zobrist.turnKey(currentPlayer, consecutivePasses)
+        ^ Zobrist.deckKey(deck.length - redDrawn, deck.length - blueDrawn) ^ orderKey;
   }
 
   @Override
@@ -139,8 +623,7 @@ public class BasicSanguine implements PublisherSanguineModel, ReadOnlySanguineMo
     if (row < 0 || col < 0 || row >= this.board.getHeight() || col >= this.board.getWidth()) {
       throw new IllegalArgumentException("invalid row or col");
     }
-    List<List<Cell>> cells = this.board.getBoardCells();
-    return cells.get(row).get(col).makeCopy();
+    return this.board.getCell(row, col).makeCopy();
   }
 
   @Override
@@ -148,7 +631,43 @@ public class BasicSanguine implements PublisherSanguineModel, ReadOnlySanguineMo
     if (row < 0 || col < 0 || row >= this.board.getHeight() || col >= this.board.getWidth()) {
       throw new IllegalArgumentException("invalid row or col");
     }
-    return this.board.getBoardCells().get(row).get(col).getOwner();
+    return this.board.getCell(row, col).getOwner();
+  }
+
+  @Override
+  public int pawnCount(int row, int col) {
+    if (row < 0 || col < 0 || row >= this.board.getHeight() || col >= this.board.getWidth()) {
+      throw new IllegalArgumentException("invalid row or col");
+    }
+    return this.board.getCell(row, col).getPawnCount();
+  }
+
+  @Override
+  public SanguineCard cardAt(int row, int col) {
+    if (row < 0 || col < 0 || row >= this.board.getHeight() || col >= this.board.getWidth()) {
+      throw new IllegalArgumentException("invalid row or col");
+    }
+    return this.board.getCell(row, col).getCard();
+  }
+
+  @Override
+  public int handSize(Player player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    return player == Player.RED ? redHand.size() : blueHand.size();
+  }
+
+  @Override
+  public SanguineCard handCard(Player player, int index) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    Hand hand = player == Player.RED ? redHand : blueHand;
+    if (index < 0 || index >= hand.size()) {
+      throw new IllegalArgumentException("invalid card index");
+    }
+    return CardRegistry.card(hand.get(index));
   }
 
   @Override
@@ -157,17 +676,40 @@ public class BasicSanguine implements PublisherSanguineModel, ReadOnlySanguineMo
         || cardIdx < 0) {
       return false;
     }
-    Cell cell = this.board.getBoardCells().get(row).get(col);
+    Cell cell = this.board.getCell(row, col);
     if (this.currentPlayer == Player.RED) {
       if (cardIdx >= this.redHand.size()) {
         return false;
       }
-      return cell.canAddCard(redHand.get(cardIdx)) && cell.getOwner() == Player.RED;
+      return cell.canAddCard(CardRegistry.card(redHand.get(cardIdx)))
+          && cell.getOwner() == Player.RED;
     } else {
       if (cardIdx >= this.blueHand.size()) {
         return false;
       }
-      return cell.canAddCard(blueHand.get(cardIdx)) && cell.getOwner() == Player.BLUE;  // ← FIXED
+      return cell.canAddCard(CardRegistry.card(blueHand.get(cardIdx)))
+          && cell.getOwner() == Player.BLUE;
+    }
+  }
+
+  @Override
+  public void legalMoves(Player player, MoveBuffer out) {
+    out.clear();
+    Hand hand = player == Player.RED ? redHand : blueHand;
+    int width = board.getWidth();
+    for (int row = 0; row < board.getHeight(); row++) {
+      for (int i = 0; i < width; i++) {
+        int col = player == Player.RED ? i : width - 1 - i;
+        Cell cell = board.getCell(row, col);
+        if (cell.getOwner() == player && cell.getCard() == null) {
+          int pawns = cell.getPawnCount();
+          for (int card = 0; card < hand.size(); card++) {
+            if (CardRegistry.cost(hand.get(card)) <= pawns) {
+              out.add(MoveBuffer.encode(card, row, col));
+            }
+          }
+        }
+      }
     }
   }
 
@@ -207,12 +749,55 @@ public class BasicSanguine implements PublisherSanguineModel, ReadOnlySanguineMo
     if (p == null) {
       throw new IllegalArgumentException("Player cannot be null");
     }
-    return new ArrayList<>(p == Player.RED ? redHand : blueHand);
+    Hand hand = p == Player.RED ? redHand : blueHand;
+    List<SanguineCard> cards = new ArrayList<>(hand.size());
+    for (int i = 0; i < hand.size(); i++) {
+      cards.add(CardRegistry.card(hand.get(i)));
+    }
+    return cards;
+  }
+
+  @Override
+  public int cardIdAt(int row, int col) {
+    SanguineCard card = cardAt(row, col);
+    return card == null ? -1 : CardRegistry.lookup(card);
+  }
+
+  @Override
+  public int handCardId(Player player, int index) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    Hand hand = player == Player.RED ? redHand : blueHand;
+    if (index < 0 || index >= hand.size()) {
+      throw new IllegalArgumentException("invalid card index");
+    }
+    return hand.get(index);
   }
 
   @Override
   public void addGameStatusListener(GameStatusListener listener) {
     statusListeners.add(listener);
+    dispatchListeners.add(dispatchExecutor == null ? listener
+        : new AsyncGameStatusListener(listener, dispatchExecutor));
+  }
+
+  /**
+   * Chooses how listeners are notified. With an executor, every listener (already added or
+   * added later) receives its events through its own ordered queue on that executor, so
+   * moves no longer wait for slow listeners; see {@link AsyncGameStatusListener} for what
+   * listeners may then read. With null, listeners are called directly during the move,
+   * which is the default.
+   *
+   * @param executor the executor to notify listeners on, or null to notify them directly
+   */
+  public void setDispatchExecutor(Executor executor) {
+    this.dispatchExecutor = executor;
+    dispatchListeners.clear();
+    for (GameStatusListener listener : statusListeners) {
+      dispatchListeners.add(executor == null ? listener
+          : new AsyncGameStatusListener(listener, executor));
+    }
   }
 
   @Override
@@ -221,17 +806,74 @@ public class BasicSanguine implements PublisherSanguineModel, ReadOnlySanguineMo
   }
 
   private void notifyTurnChanged() {
-    for (GameStatusListener l : statusListeners) {
+    if (batching) {
+      return;
+    }
+    for (GameStatusListener l : dispatchListeners) {
       l.turnChanged(currentPlayer);
     }
   }
 
   private void notifyGameOver() {
+    if (batching) {
+      return;
+    }
     Player winner = getWinner();
     int redScore = getTotalScore(Player.RED);
     int blueScore = getTotalScore(Player.BLUE);
-    for (GameStatusListener l : statusListeners) {
+    for (GameStatusListener l : dispatchListeners) {
       l.gameOver(winner, redScore, blueScore);
     }
   }
+
+  /**
+   * A hand of cards held as registry ids.
+   */
+  private static final class Hand {
+    private int[] ids;
+    private int size;
+
+    private Hand(int capacity) {
+      this.ids = new int[capacity];
+    }
+
+    private Hand copy() {
+      Hand copy = new Hand(ids.length);
+      System.arraycopy(ids, 0, copy.ids, 0, size);
+      copy.size = size;
+      return copy;
+    }
+
+    private int size() {
+      return size;
+    }
+
+    private void clear() {
+      size = 0;
+    }
+
+    private int get(int index) {
+      return ids[index];
+    }
+
+    private void add(int id) {
+      insert(size, id);
+    }
+
+    private void insert(int index, int id) {
+      if (size == ids.length) {
+        ids = Arrays.copyOf(ids, size * 2);
+      }
+      System.arraycopy(ids, index, ids, index + 1, size - index);
+      ids[index] = id;
+      size++;
+    }
+
+    private int remove(int index) {
+      int id = ids[index];
+      System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+      size--;
+      return id;
+    }
+  }
 }
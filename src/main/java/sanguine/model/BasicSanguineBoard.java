@@ -1,18 +1,30 @@
 package sanguine.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Concrete board implementation using EmptyCell, PawnsCell, and CardCell.
+ * Rows are copied on write: once a row has been handed to a snapshot or a copy it is never
+ * modified again, and the next play that touches it works on a fresh copy instead. A new
+ * board's rows all share one pristine row, so memory grows with the rows that have been
+ * played on rather than with the size of the board.
  */
 public class BasicSanguineBoard implements SanguineBoard {
 
   private final int height;
   private final int width;
-  private final List<List<Cell>> grid;
-  private final List<Integer> redRowScores;
-  private final List<Integer> blueRowScores;
+  private final Cell[][] grid;
+  private final boolean[] rowShared;
+  private final int[] redRowScores;
+  private final int[] blueRowScores;
+  private int[] journalPos = new int[64];
+  private Cell[] journalCells = new Cell[64];
+  private int journalSize;
+  private int openCheckpoints;
+  private long zobristKey;
 
   /**
    * Initializes an empty basic sanguine.model.Sanguine board.
@@ -30,38 +42,59 @@ public class BasicSanguineBoard implements SanguineBoard {
 
     this.height = rows;
     this.width = cols;
-    this.grid = new ArrayList<>(rows);
-    this.redRowScores = new ArrayList<>(rows);
-    this.blueRowScores = new ArrayList<>(rows);
+    this.grid = new Cell[rows][];
+    this.rowShared = new boolean[rows];
+    this.redRowScores = new int[rows];
+    this.blueRowScores = new int[rows];
 
+    // every row starts out as the same shared pristine row, so a large board only pays
+    // for the rows that have been played on
+    Cell[] pristine = new Cell[cols];
+    Arrays.fill(pristine, EmptyCell.instance());
+    pristine[0] = PawnsCell.of(Player.RED, 1);
+    pristine[cols - 1] = PawnsCell.of(Player.BLUE, 1);
+    Arrays.fill(grid, pristine);
+    Arrays.fill(rowShared, true);
     for (int r = 0; r < rows; r++) {
-      List<Cell> row = new ArrayList<>(cols);
-      for (int c = 0; c < cols; c++) {
-        row.add(new EmptyCell());
-      }
-      grid.add(row);
-      redRowScores.add(0);
-      blueRowScores.add(0);
-    }
-
-    for (int r = 0; r < rows; r++) {
-      grid.get(r).set(0, new PawnsCell(Player.RED, 1));
-      grid.get(r).set(cols - 1, new PawnsCell(Player.BLUE, 1));
+      zobristKey ^= Zobrist.pawnKey(r, 0, Player.RED, 1)
+          ^ Zobrist.pawnKey(r, cols - 1, Player.BLUE, 1);
     }
   }
 
   /**
-   * Creates a copy of the given board.
+   * Creates a copy of the given board. Copying another BasicSanguineBoard or a snapshot
+   * shares its rows until this board writes to them.
    *
    * @param board the board to create a copy of.
    */
   public BasicSanguineBoard(SanguineBoard board) {
     this.height = board.getHeight();
     this.width = board.getWidth();
-    this.grid = board.getBoardCells();
-    this.redRowScores = new ArrayList<>();
-    this.blueRowScores = new ArrayList<>();
-    board.recalcAllScores();
+    this.rowShared = new boolean[height];
+    this.redRowScores = new int[height];
+    this.blueRowScores = new int[height];
+    if (board instanceof BasicSanguineBoard other) {
+      this.grid = other.grid.clone();
+      this.zobristKey = other.zobristKey;
+      Arrays.fill(other.rowShared, true);
+      Arrays.fill(this.rowShared, true);
+    } else if (board instanceof BoardSnapshot other) {
+      this.grid = other.rows();
+      this.zobristKey = other.getZobristKey();
+      Arrays.fill(this.rowShared, true);
+    } else {
+      this.grid = new Cell[height][width];
+      for (int r = 0; r < height; r++) {
+        for (int c = 0; c < width; c++) {
+          grid[r][c] = board.getCell(r, c);
+          zobristKey ^= Zobrist.cellKey(r, c, grid[r][c]);
+        }
+      }
+    }
+    for (int r = 0; r < height; r++) {
+      redRowScores[r] = board.getScore(r, Player.RED);
+      blueRowScores[r] = board.getScore(r, Player.BLUE);
+    }
   }
 
   @Override
@@ -70,7 +103,7 @@ public class BasicSanguineBoard implements SanguineBoard {
       throw new IllegalArgumentException("invalid position");
     }
 
-    Cell target = grid.get(row).get(col);
+    Cell target = grid[row][col];
     if (!(target instanceof PawnsCell)) {
       throw new IllegalStateException("cell must contain pawns");
     }
@@ -82,26 +115,134 @@ public class BasicSanguineBoard implements SanguineBoard {
       throw new IllegalStateException("not enough pawns");
     }
 
-    grid.get(row).set(col, new CardCell(card, player));
-
-    boolean[][] influence = player == Player.RED
-        ? card.getInfluence() : mirror(card.getInfluence());
-    for (int dr = -2; dr <= 2; dr++) {
-      for (int dc = -2; dc <= 2; dc++) {
-        if (influence[dr + 2][dc + 2]) {
-          int tr = row + dr;
-          int tc = col + dc;
-          if (isValidPos(tr, tc)) {
-            Cell old = grid.get(tr).get(tc);
-            if (!(old instanceof CardCell)) {
-              grid.get(tr).set(tc, old.addPawns(player));
-            }
+    setCell(row, col, CardCell.of(card, player));
+
+    int influence = card.getInfluenceMask(player);
+    for (int bit = 0; bit < 25; bit++) {
+      if ((influence & (1 << bit)) != 0) {
+        int tr = row + bit / 5 - 2;
+        int tc = col + bit % 5 - 2;
+        if (isValidPos(tr, tc)) {
+          Cell old = grid[tr][tc];
+          if (!(old instanceof CardCell)) {
+            setCell(tr, tc, old.addPawns(player));
           }
         }
       }
     }
 
-    recalcAllScores();
+    if (player == Player.RED) {
+      redRowScores[row] += card.getValue();
+    } else {
+      blueRowScores[row] += card.getValue();
+    }
+  }
+
+  @Override
+  public void putCell(int row, int col, Cell cell) {
+    if (!isValidPos(row, col)) {
+      throw new IllegalArgumentException("invalid position");
+    }
+    if (cell == null) {
+      throw new IllegalArgumentException("cell cannot be null");
+    }
+    if (openCheckpoints > 0) {
+      throw new IllegalStateException("checkpoint open");
+    }
+    Cell old = grid[row][col];
+    if (old.getCard() != null) {
+      addRowScore(row, old.getOwner(), -old.getCard().getValue());
+    }
+    if (cell.getCard() != null) {
+      addRowScore(row, cell.getOwner(), cell.getCard().getValue());
+      cell = CardCell.of(cell.getCard(), cell.getOwner());
+    }
+    setCell(row, col, cell);
+  }
+
+  /**
+   * Adds to the given player's score in the given row.
+   */
+  private void addRowScore(int row, Player player, int amount) {
+    if (player == Player.RED) {
+      redRowScores[row] += amount;
+    } else {
+      blueRowScores[row] += amount;
+    }
+  }
+
+  /**
+   * Writes a cell, recording the old one first if a checkpoint is open.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @param cell the new cell
+   */
+  private void setCell(int row, int col, Cell cell) {
+    if (openCheckpoints > 0) {
+      if (journalSize == journalPos.length) {
+        journalPos = Arrays.copyOf(journalPos, journalSize * 2);
+        journalCells = Arrays.copyOf(journalCells, journalSize * 2);
+      }
+      journalPos[journalSize] = row * width + col;
+      journalCells[journalSize] = grid[row][col];
+      journalSize++;
+    }
+    zobristKey ^= Zobrist.cellKey(row, col, grid[row][col]) ^ Zobrist.cellKey(row, col, cell);
+    writableRow(row)[col] = cell;
+  }
+
+  @Override
+  public int checkpoint() {
+    openCheckpoints++;
+    return journalSize;
+  }
+
+  @Override
+  public void rollback(int mark) {
+    if (openCheckpoints == 0 || mark < 0 || mark > journalSize) {
+      throw new IllegalStateException("no such checkpoint");
+    }
+    while (journalSize > mark) {
+      journalSize--;
+      int row = journalPos[journalSize] / width;
+      int col = journalPos[journalSize] % width;
+      Cell old = journalCells[journalSize];
+      journalCells[journalSize] = null;
+      Cell current = grid[row][col];
+      if (current instanceof CardCell && !(old instanceof CardCell)) {
+        if (current.getOwner() == Player.RED) {
+          redRowScores[row] -= current.getCard().getValue();
+        } else {
+          blueRowScores[row] -= current.getCard().getValue();
+        }
+      }
+      zobristKey ^= Zobrist.cellKey(row, col, current) ^ Zobrist.cellKey(row, col, old);
+      writableRow(row)[col] = old;
+    }
+    openCheckpoints--;
+  }
+
+  @Override
+  public void discardCheckpoints() {
+    Arrays.fill(journalCells, 0, journalSize, null);
+    journalSize = 0;
+    openCheckpoints = 0;
+  }
+
+  /**
+   * Returns the given row ready to be written, first copying it if it is shared with a
+   * snapshot or another board.
+   *
+   * @param row the row about to change
+   * @return the row's cells, owned by this board alone
+   */
+  private Cell[] writableRow(int row) {
+    if (rowShared[row]) {
+      grid[row] = grid[row].clone();
+      rowShared[row] = false;
+    }
+    return grid[row];
   }
 
   /**
@@ -116,14 +257,14 @@ public class BasicSanguineBoard implements SanguineBoard {
   }
 
   /**
-   * Recalculates the score for each row for each player.
+   * Recalculates the score of the given row for each player from scratch.
    *
    * @param row the row whose score is being calculated
    */
   private void recalcRowScore(int row) {
     int red = 0;
     int blue = 0;
-    for (Cell cell : grid.get(row)) {
+    for (Cell cell : grid[row]) {
       if (cell instanceof CardCell cc) {
         if (cc.getOwner() == Player.RED) {
           red += cc.getCard().getValue();
@@ -132,8 +273,8 @@ public class BasicSanguineBoard implements SanguineBoard {
         }
       }
     }
-    redRowScores.set(row, red);
-    blueRowScores.set(row, blue);
+    redRowScores[row] = red;
+    blueRowScores[row] = blue;
   }
 
   @Override
@@ -148,7 +289,7 @@ public class BasicSanguineBoard implements SanguineBoard {
     if (row < 0 || row >= height) {
       throw new IllegalArgumentException("invalid row");
     }
-    return player == Player.RED ? redRowScores.get(row) : blueRowScores.get(row);
+    return player == Player.RED ? redRowScores[row] : blueRowScores[row];
   }
 
   @Override public int getWidth() {
@@ -160,35 +301,49 @@ public class BasicSanguineBoard implements SanguineBoard {
   }
 
   @Override
-  public List<List<Cell>> getBoardCells() {
-    return this.grid;
+  public Cell getCell(int row, int col) {
+    if (!isValidPos(row, col)) {
+      throw new IllegalArgumentException("invalid position");
+    }
+    return grid[row][col];
   }
 
   /**
-   * Mirrors the red grid across the vertical axis for blue.
+   * Returns unmodifiable views of this board's rows, which follow later plays on rows
+   * that are not shared. Use {@link #snapshot()} for a view that never changes.
    *
-   * @param orig the red player's grid.
-   * @return the mirrored version which is the blue player's grid.
+   * @return the list of cells that make up the board.
    */
-  private static boolean[][] mirror(boolean[][] orig) {
-    boolean[][] m = new boolean[5][5];
-    for (int r = 0; r < 5; r++) {
-      for (int c = 0; c < 5; c++) {
-        m[r][c] = orig[r][4 - c];
-      }
+  @Override
+  public List<List<Cell>> getBoardCells() {
+    List<List<Cell>> rows = new ArrayList<>(height);
+    for (Cell[] row : grid) {
+      rows.add(Collections.unmodifiableList(Arrays.asList(row)));
     }
-    return m;
+    return Collections.unmodifiableList(rows);
+  }
+
+  @Override
+  public SanguineBoard snapshot() {
+    Arrays.fill(rowShared, true);
+    return new BoardSnapshot(width, grid.clone(), redRowScores.clone(), blueRowScores.clone(),
+        zobristKey);
+  }
+
+  @Override
+  public long getZobristKey() {
+    return zobristKey;
   }
 
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
     for (int r = 0; r < height; r++) {
-      sb.append(redRowScores.get(r)).append(' ');
+      sb.append(redRowScores[r]).append(' ');
       for (int c = 0; c < width; c++) {
-        sb.append(grid.get(r).get(c));
+        sb.append(grid[r][c]);
       }
-      sb.append(' ').append(blueRowScores.get(r));
+      sb.append(' ').append(blueRowScores[r]);
       if (r < height - 1) {
         sb.append('\n');
       }
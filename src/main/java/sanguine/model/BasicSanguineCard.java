@@ -1,7 +1,5 @@
 package sanguine.model;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -9,10 +7,15 @@ import java.util.Objects;
  * grid of influence.
  */
 public class BasicSanguineCard implements SanguineCard {
-  int cost;
-  int value;
-  String name;
-  List<List<Boolean>> influenceGrid;
+  final int cost;
+  final int value;
+  final String name;
+  private final int hash;
+  // the influence grid as currently oriented, and its mirror image
+  private int mask;
+  private int mirroredMask;
+  // the id assigned by CardRegistry, or -1 if this card is not registered
+  int id = -1;
 
   /**
    * Creates a card from parsed data (for DeckReader).
@@ -31,17 +34,74 @@ public class BasicSanguineCard implements SanguineCard {
     if (influence.length != 5) {
       throw new IllegalArgumentException("influence must be 5x5");
     }
-    this.influenceGrid = new ArrayList<>(5);
     for (int r = 0; r < 5; r++) {
       if (influence[r].length != 5) {
         throw new IllegalArgumentException("influence must be 5x5");
       }
-      List<Boolean> row = new ArrayList<>(5);
+    }
+    this.mask = toMask(influence, false);
+    this.mirroredMask = toMask(influence, true);
+    this.hash = Objects.hash(name, cost, value);
+  }
+
+  /**
+   * Creates a card from an influence grid already packed as described in
+   * {@link SanguineCard#getInfluenceMask(Player)} (for compiled decks). Like the text
+   * format, the mask may mark the card's own cell, which has no effect when played.
+   *
+   * @throws IllegalArgumentException if the cost or value is negative, or the mask has bits
+   *     outside the grid
+   */
+  BasicSanguineCard(String name, int cost, int value, int mask) {
+    if (cost < 0) {
+      throw new IllegalArgumentException("cost cannot be negative");
+    }
+    if (value < 0) {
+      throw new IllegalArgumentException("value cannot be negative");
+    }
+    if ((mask & ~0x1FFFFFF) != 0) {
+      throw new IllegalArgumentException("invalid influence mask");
+    }
+    this.name = name;
+    this.cost = cost;
+    this.value = value;
+    this.mask = mask;
+    this.mirroredMask = mirror(mask);
+    this.hash = Objects.hash(name, cost, value);
+  }
+
+  /**
+   * Mirrors a packed influence mask across the vertical axis.
+   */
+  static int mirror(int mask) {
+    int mirrored = 0;
+    for (int r = 0; r < 5; r++) {
+      for (int c = 0; c < 5; c++) {
+        if ((mask & (1 << (r * 5 + 4 - c))) != 0) {
+          mirrored |= 1 << (r * 5 + c);
+        }
+      }
+    }
+    return mirrored;
+  }
+
+  /**
+   * Packs a 5x5 influence grid into a 25-bit mask, bit {@code r * 5 + c} per cell.
+   *
+   * @param influence the grid to pack
+   * @param mirrored whether to mirror the grid across the vertical axis (blue's view)
+   * @return the packed mask
+   */
+  static int toMask(boolean[][] influence, boolean mirrored) {
+    int mask = 0;
+    for (int r = 0; r < 5; r++) {
       for (int c = 0; c < 5; c++) {
-        row.add(influence[r][c]);
+        if (influence[r][mirrored ? 4 - c : c]) {
+          mask |= 1 << (r * 5 + c);
+        }
       }
-      this.influenceGrid.add(row);
     }
+    return mask;
   }
 
   @Override
@@ -52,7 +112,7 @@ public class BasicSanguineCard implements SanguineCard {
             || checkY < 0 || cardY < 0 || cardY >= 5 || checkY >= 5 || cardX >= 5 || checkX >= 5) {
       return false;
     }
-    return influenceGrid.get(2 + diffY).get(2 + diffX);
+    return (mask & (1 << ((2 + diffY) * 5 + 2 + diffX))) != 0;
   }
 
   @Override
@@ -70,17 +130,30 @@ public class BasicSanguineCard implements SanguineCard {
     return this.name;
   }
 
+  /**
+   * Mirrors this card's influence grid.
+   *
+   * @throws IllegalStateException if the card is registered, since registered cards are
+   *     shared and must not change
+   */
   @Override
   public void flipGrid() {
-    List<List<Boolean>> newInfluenceGrid = new ArrayList<>();
-    for (int row = 0; row < 5; row++) {
-      newInfluenceGrid.add(new ArrayList<>());
-      for (int col = 4; col >= 0; col--) {
-        boolean block = influenceGrid.get(row).get(col);
-        newInfluenceGrid.get(row).add(block);
-      }
+    if (id >= 0) {
+      throw new IllegalStateException("registered cards cannot be flipped");
     }
-    this.influenceGrid = newInfluenceGrid;
+    int old = this.mask;
+    this.mask = this.mirroredMask;
+    this.mirroredMask = old;
+  }
+
+  @Override
+  public int getInfluenceMask(Player player) {
+    return player == Player.BLUE ? mirroredMask : mask;
+  }
+
+  @Override
+  public int getId() {
+    return id;
   }
 
   @Override
@@ -88,7 +161,7 @@ public class BasicSanguineCard implements SanguineCard {
     boolean[][] grid = new boolean[5][5];
     for (int r = 0; r < 5; r++) {
       for (int c = 0; c < 5; c++) {
-        grid[r][c] = influenceGrid.get(r).get(c);
+        grid[r][c] = (mask & (1 << (r * 5 + c))) != 0;
       }
     }
     return grid;
@@ -98,22 +171,17 @@ public class BasicSanguineCard implements SanguineCard {
   public boolean equals(Object o) {
     if (!(o instanceof BasicSanguineCard)) {
       return false;
-    } else {
-      BasicSanguineCard card = (BasicSanguineCard) o;
-      for (int r = 0; r < 5; r++) {
-        for (int c = 0; c < 5; c++) {
-          if (!card.influenceGrid.get(r).get(c).equals(influenceGrid.get(r).get(c))) {
-            return false;
-          }
-        }
-      }
-      return card.getName().equals(this.name) && card.getCost() == this.cost
-              && card.getValue() == this.value;
     }
+    BasicSanguineCard card = (BasicSanguineCard) o;
+    if (id >= 0 && card.id >= 0) {
+      return id == card.id;
+    }
+    return card.mask == this.mask && card.cost == this.cost && card.value == this.value
+        && card.name.equals(this.name);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, cost, value);
+    return hash;
   }
 }
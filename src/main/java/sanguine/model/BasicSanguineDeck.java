@@ -1,5 +1,6 @@
 package sanguine.model;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -16,10 +17,15 @@ public class BasicSanguineDeck implements SanguineDeck {
    * @param player player the deck is for (if Blue, cards' grids will be flipped.)
    */
   public BasicSanguineDeck(String path, Player player) {
-    this.deck = DeckReader.readDeck(path);
+    this.deck = new ArrayList<>(DeckCache.get(path));
     if (player == Player.BLUE) {
-      for (SanguineCard card : deck) {
-        card.flipGrid();
+      // the read cards are shared, so flip copies of them
+      for (int i = 0; i < deck.size(); i++) {
+        SanguineCard card = deck.get(i);
+        SanguineCard flipped = new BasicSanguineCard(card.getName(), card.getCost(),
+            card.getValue(), card.getInfluence());
+        flipped.flipGrid();
+        deck.set(i, flipped);
       }
     }
   }
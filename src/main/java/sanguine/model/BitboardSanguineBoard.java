@@ -0,0 +1,479 @@
+package sanguine.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Board implementation that stores each row as packed bitplanes instead of cell objects.
+ * Every row has one bit per column in each plane: red ownership, blue ownership, card
+ * occupancy, and the low and high bits of the pawn count. Influence is applied to a whole
+ * row of the card's influence grid at once with shifts and masks. Per-cell card storage is
+ * only allocated for rows that hold cards, so very large boards stay small.
+ */
+public class BitboardSanguineBoard implements SanguineBoard {
+
+  private final int height;
+  private final int width;
+  private final int words;
+  private final long lastWordMask;
+  private final long[][] red;
+  private final long[][] blue;
+  private final long[][] cardBits;
+  private final long[][] pawnLo;
+  private final long[][] pawnHi;
+  private final CardCell[][] cards;
+  private final int[] redRowScores;
+  private final int[] blueRowScores;
+  private final Cell[][] rowCache;
+  private long[] journal = new long[6 * 16];
+  private int journalSize;
+  private int openCheckpoints;
+  private long zobristKey;
+
+  /**
+   * Initializes an empty bitboard sanguine.model.Sanguine board.
+   *
+   * @param rows the number of rows for the board
+   * @param cols the number of columns for the board
+   */
+  public BitboardSanguineBoard(int rows, int cols) {
+    if (rows <= 0) {
+      throw new IllegalArgumentException("rows must be positive");
+    }
+    if (cols <= 1 || cols % 2 == 0) {
+      throw new IllegalArgumentException("cols must be odd and >1");
+    }
+
+    this.height = rows;
+    this.width = cols;
+    this.words = (cols + 63) >>> 6;
+    this.lastWordMask = (cols & 63) == 0 ? -1L : (1L << (cols & 63)) - 1;
+    this.red = new long[rows][words];
+    this.blue = new long[rows][words];
+    this.cardBits = new long[rows][words];
+    this.pawnLo = new long[rows][words];
+    this.pawnHi = new long[rows][words];
+    this.cards = new CardCell[rows][];
+    this.redRowScores = new int[rows];
+    this.blueRowScores = new int[rows];
+    this.rowCache = new Cell[rows][];
+
+    // untouched rows share one pristine cell row in snapshots and have no card row at all
+    Cell[] pristine = new Cell[cols];
+    Arrays.fill(pristine, EmptyCell.instance());
+    pristine[0] = PawnsCell.of(Player.RED, 1);
+    pristine[cols - 1] = PawnsCell.of(Player.BLUE, 1);
+    Arrays.fill(rowCache, pristine);
+
+    int last = cols - 1;
+    for (int r = 0; r < rows; r++) {
+      red[r][0] |= 1L;
+      pawnLo[r][0] |= 1L;
+      blue[r][last >>> 6] |= 1L << (last & 63);
+      pawnLo[r][last >>> 6] |= 1L << (last & 63);
+      zobristKey ^= Zobrist.pawnKey(r, 0, Player.RED, 1)
+          ^ Zobrist.pawnKey(r, last, Player.BLUE, 1);
+    }
+  }
+
+  @Override
+  public void playCard(SanguineCard card, Player player, int row, int col) {
+    if (!isValidPos(row, col)) {
+      throw new IllegalArgumentException("invalid position");
+    }
+
+    int w = col >>> 6;
+    long bit = 1L << (col & 63);
+    long[] mine = player == Player.RED ? red[row] : blue[row];
+    if ((cardBits[row][w] & bit) != 0 || ((red[row][w] | blue[row][w]) & bit) == 0) {
+      throw new IllegalStateException("cell must contain pawns");
+    }
+    if ((mine[w] & bit) == 0) {
+      throw new IllegalStateException("cell not owned by player");
+    }
+    if (pawnCount(row, w, bit) < card.getCost()) {
+      throw new IllegalStateException("not enough pawns");
+    }
+
+    record(row, w);
+    zobristKey ^= keysOf(row, w, bit);
+    cardBits[row][w] |= bit;
+    pawnLo[row][w] &= ~bit;
+    pawnHi[row][w] &= ~bit;
+    cardRow(row)[col] = CardCell.of(card, player);
+    zobristKey ^= keysOf(row, w, bit);
+    rowCache[row] = null;
+
+    int mask = card.getInfluenceMask(player);
+    for (int dr = 0; dr < 5; dr++) {
+      int tr = row + dr - 2;
+      if (tr >= 0 && tr < height) {
+        applyRowInfluence(tr, (mask >>> (dr * 5)) & 0x1F, col - 2, player);
+      }
+    }
+
+    if (player == Player.RED) {
+      redRowScores[row] += card.getValue();
+    } else {
+      blueRowScores[row] += card.getValue();
+    }
+  }
+
+  @Override
+  public void putCell(int row, int col, Cell cell) {
+    if (!isValidPos(row, col)) {
+      throw new IllegalArgumentException("invalid position");
+    }
+    if (cell == null) {
+      throw new IllegalArgumentException("cell cannot be null");
+    }
+    if (openCheckpoints > 0) {
+      throw new IllegalStateException("checkpoint open");
+    }
+    Player owner = cell.getOwner();
+    int pawns = cell.getPawnCount();
+    if (owner != null && cell.getCard() == null && (pawns < 1 || pawns > 3)) {
+      throw new IllegalArgumentException("invalid pawn count");
+    }
+
+    int w = col >>> 6;
+    long bit = 1L << (col & 63);
+    zobristKey ^= keysOf(row, w, bit);
+    CardCell old = cards[row] == null ? null : cards[row][col];
+    if (old != null) {
+      addRowScore(row, old.getOwner(), -old.getCard().getValue());
+      cards[row][col] = null;
+    }
+    red[row][w] &= ~bit;
+    blue[row][w] &= ~bit;
+    cardBits[row][w] &= ~bit;
+    pawnLo[row][w] &= ~bit;
+    pawnHi[row][w] &= ~bit;
+    if (owner != null) {
+      (owner == Player.RED ? red : blue)[row][w] |= bit;
+      if (cell.getCard() != null) {
+        cardBits[row][w] |= bit;
+        cardRow(row)[col] = CardCell.of(cell.getCard(), owner);
+        addRowScore(row, owner, cell.getCard().getValue());
+      } else {
+        pawnLo[row][w] |= (pawns & 1) != 0 ? bit : 0;
+        pawnHi[row][w] |= (pawns & 2) != 0 ? bit : 0;
+      }
+    }
+    zobristKey ^= keysOf(row, w, bit);
+    rowCache[row] = null;
+  }
+
+  /**
+   * Adds to the given player's score in the given row.
+   */
+  private void addRowScore(int row, Player player, int amount) {
+    if (player == Player.RED) {
+      redRowScores[row] += amount;
+    } else {
+      blueRowScores[row] += amount;
+    }
+  }
+
+  /**
+   * Applies one row of a card's influence, given as five column bits starting at the given
+   * column, to the given board row.
+   *
+   * @param row the board row being influenced
+   * @param rowMask five influence bits, bit 0 being the leftmost column
+   * @param start the board column of bit 0, which may be off the board
+   * @param player the player whose pawns are added
+   */
+  private void applyRowInfluence(int row, long rowMask, int start, Player player) {
+    if (rowMask == 0) {
+      return;
+    }
+    if (start < 0) {
+      rowMask >>>= -start;
+      start = 0;
+    }
+    int w = start >>> 6;
+    int off = start & 63;
+    applyWordInfluence(row, w, rowMask << off, player);
+    if (off > 59 && w + 1 < words) {
+      applyWordInfluence(row, w + 1, rowMask >>> (64 - off), player);
+    }
+  }
+
+  /**
+   * Adds a pawn for the player to every non-card cell selected by the mask in one word of
+   * a row, converting opponent pawns and capping pawn counts at three.
+   *
+   * @param row the board row
+   * @param w the word index within the row
+   * @param m the cells to influence
+   * @param player the player whose pawns are added
+   */
+  private void applyWordInfluence(int row, int w, long m, Player player) {
+    if (w == words - 1) {
+      m &= lastWordMask;
+    }
+    record(row, w);
+    long[] mine = player == Player.RED ? red[row] : blue[row];
+    long[] theirs = player == Player.RED ? blue[row] : red[row];
+    rowCache[row] = null;
+    long lo = pawnLo[row][w];
+    long hi = pawnHi[row][w];
+
+    long hit = m & ~cardBits[row][w];
+    long converted = hit & theirs[w];
+    long grow = hit & ~converted;
+    long empty = grow & ~mine[w];
+    long inc = grow & ~(lo & hi);
+    long changed = converted | inc;
+
+    zobristKey ^= keysOf(row, w, changed);
+    theirs[w] &= ~converted;
+    mine[w] |= converted | empty;
+    pawnHi[row][w] = hi ^ (inc & lo);
+    pawnLo[row][w] = lo ^ inc;
+    zobristKey ^= keysOf(row, w, changed);
+  }
+
+  /**
+   * Returns the XOR of the Zobrist keys of the cells selected by the mask in one word of a
+   * row, in their current state.
+   *
+   * @param row the board row
+   * @param w the word index within the row
+   * @param cells the cells to include
+   * @return the combined key of those cells
+   */
+  private long keysOf(int row, int w, long cells) {
+    long key = 0;
+    while (cells != 0) {
+      long bit = Long.lowestOneBit(cells);
+      int col = (w << 6) + Long.numberOfTrailingZeros(cells);
+      Player owner = (red[row][w] & bit) != 0 ? Player.RED
+          : (blue[row][w] & bit) != 0 ? Player.BLUE : null;
+      if (owner != null) {
+        key ^= (cardBits[row][w] & bit) != 0
+            ? Zobrist.cardCellKey(row, col, owner, cards[row][col].getCard())
+            : Zobrist.pawnKey(row, col, owner, pawnCount(row, w, bit));
+      }
+      cells &= cells - 1;
+    }
+    return key;
+  }
+
+  /**
+   * Saves every plane of one word of a row if a checkpoint is open. Each journal entry is
+   * six longs: the row and word index, then the red, blue, card, low and high planes.
+   *
+   * @param row the board row
+   * @param w the word index within the row
+   */
+  private void record(int row, int w) {
+    if (openCheckpoints == 0) {
+      return;
+    }
+    if (journalSize + 6 > journal.length) {
+      journal = Arrays.copyOf(journal, journal.length * 2);
+    }
+    journal[journalSize] = ((long) row << 32) | w;
+    journal[journalSize + 1] = red[row][w];
+    journal[journalSize + 2] = blue[row][w];
+    journal[journalSize + 3] = cardBits[row][w];
+    journal[journalSize + 4] = pawnLo[row][w];
+    journal[journalSize + 5] = pawnHi[row][w];
+    journalSize += 6;
+  }
+
+  @Override
+  public int checkpoint() {
+    openCheckpoints++;
+    return journalSize;
+  }
+
+  @Override
+  public void rollback(int mark) {
+    if (openCheckpoints == 0 || mark < 0 || mark > journalSize) {
+      throw new IllegalStateException("no such checkpoint");
+    }
+    while (journalSize > mark) {
+      journalSize -= 6;
+      int row = (int) (journal[journalSize] >>> 32);
+      int w = (int) journal[journalSize];
+      long oldCards = journal[journalSize + 3];
+      long changed = (red[row][w] ^ journal[journalSize + 1])
+          | (blue[row][w] ^ journal[journalSize + 2]) | (cardBits[row][w] ^ oldCards)
+          | (pawnLo[row][w] ^ journal[journalSize + 4])
+          | (pawnHi[row][w] ^ journal[journalSize + 5]);
+      zobristKey ^= keysOf(row, w, changed);
+      long placed = cardBits[row][w] & ~oldCards;
+      while (placed != 0) {
+        int col = (w << 6) + Long.numberOfTrailingZeros(placed);
+        if ((red[row][w] & Long.lowestOneBit(placed)) != 0) {
+          redRowScores[row] -= cards[row][col].getCard().getValue();
+        } else {
+          blueRowScores[row] -= cards[row][col].getCard().getValue();
+        }
+        cards[row][col] = null;
+        placed &= placed - 1;
+      }
+      red[row][w] = journal[journalSize + 1];
+      blue[row][w] = journal[journalSize + 2];
+      cardBits[row][w] = oldCards;
+      pawnLo[row][w] = journal[journalSize + 4];
+      pawnHi[row][w] = journal[journalSize + 5];
+      zobristKey ^= keysOf(row, w, changed);
+      rowCache[row] = null;
+    }
+    openCheckpoints--;
+  }
+
+  @Override
+  public void discardCheckpoints() {
+    journalSize = 0;
+    openCheckpoints = 0;
+  }
+
+  /**
+   * Returns the cards placed in the given row, allocating the row on its first card.
+   */
+  private CardCell[] cardRow(int row) {
+    if (cards[row] == null) {
+      cards[row] = new CardCell[width];
+    }
+    return cards[row];
+  }
+
+  /**
+   * Returns the number of pawns on the cell selected by the bit in the given word.
+   */
+  private int pawnCount(int row, int w, long bit) {
+    return ((pawnLo[row][w] & bit) != 0 ? 1 : 0) + ((pawnHi[row][w] & bit) != 0 ? 2 : 0);
+  }
+
+  /**
+   * Returns if the position is valid within the range of the board grid size.
+   *
+   * @param r the row number
+   * @param c the column number
+   * @return true if the position is valid within the bounds of the board or false if not
+   */
+  private boolean isValidPos(int r, int c) {
+    return r >= 0 && r < height && c >= 0 && c < width;
+  }
+
+  @Override
+  public void recalcAllScores() {
+    for (int r = 0; r < height; r++) {
+      int redScore = 0;
+      int blueScore = 0;
+      for (int c = 0; cards[r] != null && c < width; c++) {
+        CardCell card = cards[r][c];
+        if (card != null) {
+          if (card.getOwner() == Player.RED) {
+            redScore += card.getCard().getValue();
+          } else {
+            blueScore += card.getCard().getValue();
+          }
+        }
+      }
+      redRowScores[r] = redScore;
+      blueRowScores[r] = blueScore;
+    }
+  }
+
+  @Override
+  public int getScore(int row, Player player) {
+    if (row < 0 || row >= height) {
+      throw new IllegalArgumentException("invalid row");
+    }
+    return player == Player.RED ? redRowScores[row] : blueRowScores[row];
+  }
+
+  @Override public int getWidth() {
+    return width;
+  }
+
+  @Override public int getHeight() {
+    return height;
+  }
+
+  @Override
+  public Cell getCell(int row, int col) {
+    if (!isValidPos(row, col)) {
+      throw new IllegalArgumentException("invalid position");
+    }
+    int w = col >>> 6;
+    long bit = 1L << (col & 63);
+    Player owner = (red[row][w] & bit) != 0 ? Player.RED
+        : (blue[row][w] & bit) != 0 ? Player.BLUE : null;
+    if (owner == null) {
+      return EmptyCell.instance();
+    }
+    if ((cardBits[row][w] & bit) != 0) {
+      return cards[row][col];
+    }
+    return PawnsCell.of(owner, pawnCount(row, w, bit));
+  }
+
+  /**
+   * Builds a cell-object view of the board. The returned lists are new on every call, so
+   * changing them does not affect this board.
+   *
+   * @return the list of cells that make up the board.
+   */
+  @Override
+  public List<List<Cell>> getBoardCells() {
+    List<List<Cell>> grid = new ArrayList<>(height);
+    for (int r = 0; r < height; r++) {
+      List<Cell> row = new ArrayList<>(width);
+      for (int c = 0; c < width; c++) {
+        row.add(getCell(r, c));
+      }
+      grid.add(row);
+    }
+    return grid;
+  }
+
+  /**
+   * Returns a snapshot built from cached cell rows. A row's cells are rebuilt only after a
+   * play has changed it, so unchanged rows are shared between snapshots.
+   *
+   * @return a snapshot of the current board.
+   */
+  @Override
+  public SanguineBoard snapshot() {
+    for (int r = 0; r < height; r++) {
+      if (rowCache[r] == null) {
+        Cell[] row = new Cell[width];
+        for (int c = 0; c < width; c++) {
+          row[c] = getCell(r, c);
+        }
+        rowCache[r] = row;
+      }
+    }
+    return new BoardSnapshot(width, rowCache.clone(), redRowScores.clone(),
+        blueRowScores.clone(), zobristKey);
+  }
+
+  @Override
+  public long getZobristKey() {
+    return zobristKey;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (int r = 0; r < height; r++) {
+      sb.append(redRowScores[r]).append(' ');
+      for (int c = 0; c < width; c++) {
+        sb.append(getCell(r, c));
+      }
+      sb.append(' ').append(blueRowScores[r]);
+      if (r < height - 1) {
+        sb.append('\n');
+      }
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,153 @@
+package sanguine.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable snapshot of a board at one point in the game. Snapshots share unchanged rows
+ * with the board they were taken from and with each other, so taking one after every move
+ * only costs the rows that move changed. Playing a card on a snapshot is not supported.
+ */
+public final class BoardSnapshot implements SanguineBoard {
+
+  private final int width;
+  private final Cell[][] rows;
+  private final int[] redRowScores;
+  private final int[] blueRowScores;
+  private final long zobristKey;
+
+  /**
+   * Creates a snapshot over the given rows. The caller hands over ownership: none of the
+   * row arrays may be modified afterwards.
+   *
+   * @param width the number of columns
+   * @param rows the cells of each row
+   * @param redRowScores red's score in each row
+   * @param blueRowScores blue's score in each row
+   * @param zobristKey the board's Zobrist key
+   */
+  BoardSnapshot(int width, Cell[][] rows, int[] redRowScores, int[] blueRowScores,
+                long zobristKey) {
+    this.width = width;
+    this.rows = rows;
+    this.redRowScores = redRowScores;
+    this.blueRowScores = blueRowScores;
+    this.zobristKey = zobristKey;
+  }
+
+  /**
+   * Returns a new array over this snapshot's (shared, never modified) rows.
+   *
+   * @return the snapshot's rows
+   */
+  Cell[][] rows() {
+    return rows.clone();
+  }
+
+  @Override
+  public void playCard(SanguineCard card, Player player, int row, int col) {
+    throw new UnsupportedOperationException("board snapshots are immutable");
+  }
+
+  @Override
+  public void putCell(int row, int col, Cell cell) {
+    throw new UnsupportedOperationException("board snapshots are immutable");
+  }
+
+  @Override
+  public int getScore(int row, Player player) {
+    if (row < 0 || row >= rows.length) {
+      throw new IllegalArgumentException("invalid row");
+    }
+    return player == Player.RED ? redRowScores[row] : blueRowScores[row];
+  }
+
+  @Override
+  public int getWidth() {
+    return width;
+  }
+
+  @Override
+  public int getHeight() {
+    return rows.length;
+  }
+
+  @Override
+  public Cell getCell(int row, int col) {
+    if (row < 0 || row >= rows.length || col < 0 || col >= width) {
+      throw new IllegalArgumentException("invalid position");
+    }
+    return rows[row][col];
+  }
+
+  /**
+   * Returns unmodifiable views of the snapshot's rows.
+   *
+   * @return the list of cells that make up the board.
+   */
+  @Override
+  public List<List<Cell>> getBoardCells() {
+    List<List<Cell>> grid = new ArrayList<>(rows.length);
+    for (Cell[] row : rows) {
+      grid.add(Collections.unmodifiableList(Arrays.asList(row)));
+    }
+    return Collections.unmodifiableList(grid);
+  }
+
+  /**
+   * Does nothing, a snapshot's scores never go stale.
+   */
+  @Override
+  public void recalcAllScores() {
+  }
+
+  @Override
+  public long getZobristKey() {
+    return zobristKey;
+  }
+
+  @Override
+  public SanguineBoard snapshot() {
+    return this;
+  }
+
+  /**
+   * Returns 0, a snapshot never changes so there is nothing to record.
+   */
+  @Override
+  public int checkpoint() {
+    return 0;
+  }
+
+  /**
+   * Does nothing, a snapshot never changes so there is nothing to undo.
+   */
+  @Override
+  public void rollback(int mark) {
+  }
+
+  /**
+   * Does nothing, a snapshot never records changes.
+   */
+  @Override
+  public void discardCheckpoints() {
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (int r = 0; r < rows.length; r++) {
+      sb.append(redRowScores[r]).append(' ');
+      for (Cell cell : rows[r]) {
+        sb.append(cell);
+      }
+      sb.append(' ').append(blueRowScores[r]);
+      if (r < rows.length - 1) {
+        sb.append('\n');
+      }
+    }
+    return sb.toString();
+  }
+}
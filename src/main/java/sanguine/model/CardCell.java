@@ -21,6 +21,21 @@ public class CardCell implements Cell {
     this.owner = owner;
   }
 
+  /**
+   * Returns a cell holding the given card. Registered cards get the registry's shared cell,
+   * anything else a new one.
+   *
+   * @param card  the card placed
+   * @param owner the player who owns this cell
+   * @return a card cell
+   */
+  public static CardCell of(SanguineCard card, Player owner) {
+    if (card == null || owner == null) {
+      throw new IllegalArgumentException("card and owner cannot be null");
+    }
+    return card.getId() >= 0 ? CardRegistry.cell(card.getId(), owner) : new CardCell(card, owner);
+  }
+
   @Override
   public SanguineCard getCard() {
     return card;
@@ -28,6 +43,9 @@ public class CardCell implements Cell {
 
   @Override
   public Cell makeCopy() {
+    if (card.getId() >= 0) {
+      return this;
+    }
     return new CardCell(new BasicSanguineCard(this.card.getName(), this.card.getCost(),
             this.card.getValue(), this.card.getInfluence()), this.owner);
   }
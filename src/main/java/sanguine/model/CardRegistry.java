@@ -0,0 +1,244 @@
+package sanguine.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interns cards so that every distinct card (by name, cost, value and influence) is
+ * represented by one shared, immutable instance with a small integer id. Ids are handed out
+ * in the order cards are first seen and never change, so games, hands, decks and position
+ * caches can refer to cards by id and compare them with integer operations. The registry
+ * also keeps each card's cost, value and influence masks in primitive arrays indexed by id.
+ *
+ * <p>Cards are registered only by {@link #intern(SanguineCard)} and
+ * {@link #idOf(SanguineCard)}, which {@link DeckReader} calls for every card it reads;
+ * {@link #lookup(SanguineCard)} and the id accessors of the models never register anything.
+ * Registered cards stay for the life of the process, since games, snapshots, encoded
+ * states and transposition tables may hold their ids at any time. The registry therefore
+ * grows with the number of distinct cards read, not with the number of reads: reading an
+ * unchanged deck again adds nothing, and reading an edited deck adds only the cards whose
+ * name, cost, value or influence changed. Each card takes a few hundred bytes.
+ */
+public final class CardRegistry {
+
+  /**
+   * The key a card is interned under.
+   */
+  private record Key(String name, int cost, int value, int mask) {}
+
+  /**
+   * Everything known about the registered cards, indexed by id. A new table is published
+   * whenever the arrays grow; slots below {@code size} are never written again.
+   */
+  private static final class Table {
+    private final BasicSanguineCard[] cards;
+    private final int[] costs;
+    private final int[] values;
+    private final int[] redMasks;
+    private final int[] blueMasks;
+    private final long[] keys;
+    private final CardCell[] redCells;
+    private final CardCell[] blueCells;
+
+    private Table(int capacity) {
+      this(new BasicSanguineCard[capacity], new int[capacity], new int[capacity],
+          new int[capacity], new int[capacity], new long[capacity], new CardCell[capacity],
+          new CardCell[capacity]);
+    }
+
+    private Table(BasicSanguineCard[] cards, int[] costs, int[] values, int[] redMasks,
+                  int[] blueMasks, long[] keys, CardCell[] redCells, CardCell[] blueCells) {
+      this.cards = cards;
+      this.costs = costs;
+      this.values = values;
+      this.redMasks = redMasks;
+      this.blueMasks = blueMasks;
+      this.keys = keys;
+      this.redCells = redCells;
+      this.blueCells = blueCells;
+    }
+
+    private Table grow() {
+      int capacity = cards.length * 2;
+      return new Table(Arrays.copyOf(cards, capacity), Arrays.copyOf(costs, capacity),
+          Arrays.copyOf(values, capacity), Arrays.copyOf(redMasks, capacity),
+          Arrays.copyOf(blueMasks, capacity), Arrays.copyOf(keys, capacity),
+          Arrays.copyOf(redCells, capacity), Arrays.copyOf(blueCells, capacity));
+    }
+  }
+
+  private static final Map<Key, Integer> IDS = new HashMap<>();
+  private static volatile Table table = new Table(64);
+  private static volatile int size;
+
+  private CardRegistry() {}
+
+  /**
+   * Returns the registered card equal to the given one, registering a copy of it first if
+   * no equal card has been seen yet.
+   *
+   * @param card the card to intern
+   * @return the shared, immutable card
+   * @throws IllegalArgumentException if the card is null
+   */
+  public static SanguineCard intern(SanguineCard card) {
+    if (card == null) {
+      throw new IllegalArgumentException("card cannot be null");
+    }
+    if (card.getId() >= 0) {
+      return card;
+    }
+    int id = idOf(card);
+    return table.cards[id];
+  }
+
+  /**
+   * Returns the id of the registered card equal to the given one, registering a copy of it
+   * first if no equal card has been seen yet.
+   *
+   * @param card the card to look up
+   * @return the card's id
+   * @throws IllegalArgumentException if the card is null
+   */
+  public static int idOf(SanguineCard card) {
+    if (card == null) {
+      throw new IllegalArgumentException("card cannot be null");
+    }
+    if (card.getId() >= 0) {
+      return card.getId();
+    }
+    Key key = new Key(card.getName(), card.getCost(), card.getValue(),
+        card.getInfluenceMask(Player.RED));
+    synchronized (IDS) {
+      Integer id = IDS.get(key);
+      if (id != null) {
+        return id;
+      }
+      BasicSanguineCard copy = new BasicSanguineCard(card.getName(), card.getCost(),
+          card.getValue(), card.getInfluence());
+      int next = size;
+      Table t = next == table.cards.length ? table.grow() : table;
+      copy.id = next;
+      t.cards[next] = copy;
+      t.costs[next] = copy.getCost();
+      t.values[next] = copy.getValue();
+      t.redMasks[next] = copy.getInfluenceMask(Player.RED);
+      t.blueMasks[next] = copy.getInfluenceMask(Player.BLUE);
+      t.keys[next] = Zobrist.contentKey(copy);
+      t.redCells[next] = new CardCell(copy, Player.RED);
+      t.blueCells[next] = new CardCell(copy, Player.BLUE);
+      table = t;
+      size = next + 1;
+      IDS.put(key, next);
+      return next;
+    }
+  }
+
+  /**
+   * Returns the id of the registered card equal to the given one, or -1 if no equal card
+   * has been registered. Unlike {@link #idOf(SanguineCard)}, this never registers the card.
+   *
+   * @param card the card to look up
+   * @return the card's id, or -1
+   * @throws IllegalArgumentException if the card is null
+   */
+  public static int lookup(SanguineCard card) {
+    if (card == null) {
+      throw new IllegalArgumentException("card cannot be null");
+    }
+    if (card.getId() >= 0) {
+      return card.getId();
+    }
+    Key key = new Key(card.getName(), card.getCost(), card.getValue(),
+        card.getInfluenceMask(Player.RED));
+    synchronized (IDS) {
+      Integer id = IDS.get(key);
+      return id == null ? -1 : id;
+    }
+  }
+
+  /**
+   * Returns the number of registered cards. Ids run from 0 up to (not including) this.
+   *
+   * @return the number of registered cards
+   */
+  public static int size() {
+    return size;
+  }
+
+  /**
+   * Returns the registered card with the given id.
+   *
+   * @param id the card's id
+   * @return the shared card
+   * @throws IllegalArgumentException if no card has that id
+   */
+  public static SanguineCard card(int id) {
+    return table(id).cards[id];
+  }
+
+  /**
+   * Returns the cost of the registered card with the given id.
+   *
+   * @param id the card's id
+   * @return the card's cost
+   * @throws IllegalArgumentException if no card has that id
+   */
+  public static int cost(int id) {
+    return table(id).costs[id];
+  }
+
+  /**
+   * Returns the value of the registered card with the given id.
+   *
+   * @param id the card's id
+   * @return the card's value
+   * @throws IllegalArgumentException if no card has that id
+   */
+  public static int value(int id) {
+    return table(id).values[id];
+  }
+
+  /**
+   * Returns the influence mask of the registered card with the given id as seen by the
+   * given player, as described in {@link SanguineCard#getInfluenceMask(Player)}.
+   *
+   * @param id the card's id
+   * @param player the player playing the card
+   * @return the packed influence mask
+   * @throws IllegalArgumentException if no card has that id
+   */
+  public static int mask(int id, Player player) {
+    Table t = table(id);
+    return player == Player.BLUE ? t.blueMasks[id] : t.redMasks[id];
+  }
+
+  /**
+   * Returns the shared cell holding the registered card with the given id, owned by the
+   * given player.
+   *
+   * @param id the card's id
+   * @param owner the owner of the cell
+   * @return the shared card cell
+   * @throws IllegalArgumentException if no card has that id
+   */
+  public static CardCell cell(int id, Player owner) {
+    Table t = table(id);
+    return owner == Player.BLUE ? t.blueCells[id] : t.redCells[id];
+  }
+
+  /**
+   * Returns the Zobrist key of the card's contents.
+   */
+  static long key(int id) {
+    return table(id).keys[id];
+  }
+
+  private static Table table(int id) {
+    if (id < 0 || id >= size) {
+      throw new IllegalArgumentException("unknown card id");
+    }
+    return table;
+  }
+}
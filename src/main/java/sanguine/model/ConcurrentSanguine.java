@@ -0,0 +1,234 @@
+package sanguine.model;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import sanguine.controller.GameStatusListener;
+import sanguine.controller.PublisherSanguineModel;
+
+/**
+ * A thread-safe game of sanguine.model.Sanguine. Moves are made one at a time on an
+ * underlying {@link BasicSanguine}, and after each move an immutable {@link GameSnapshot}
+ * of the new state is published through an atomic reference. Every read goes to the latest
+ * snapshot, so any number of readers (views, spectators, analysers) see a consistent state
+ * without taking a lock and never wait for a move in progress.
+ *
+ * <p>Reads made one after another may see different snapshots if a move lands between
+ * them; readers that need several values from the same state should call
+ * {@link #current()} once and read from that.
+ */
+public class ConcurrentSanguine implements PublisherSanguineModel {
+  private final BasicSanguine game;
+  private final Object writeLock = new Object();
+  private final AtomicReference<GameSnapshot> published;
+  private final List<GameStatusListener> statusListeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Initializes a new thread-safe game of sanguine.model.Sanguine.
+   *
+   * @param rows      board height (>0)
+   * @param cols      board width (odd, >1)
+   * @param deckFile  path to a deck configuration
+   * @param handSize  ≤ deck size/3
+   */
+  public ConcurrentSanguine(int rows, int cols, String deckFile, int handSize) {
+    this(new BasicSanguine(rows, cols, deckFile, handSize));
+  }
+
+  /**
+   * Makes the given game thread-safe. The game must not be used directly afterwards, and
+   * listeners already registered on it are notified from whichever thread makes a move.
+   *
+   * @param game the game to wrap
+   */
+  public ConcurrentSanguine(BasicSanguine game) {
+    if (game == null) {
+      throw new IllegalArgumentException("game cannot be null");
+    }
+    this.game = game;
+    this.published = new AtomicReference<>(game.snapshot());
+  }
+
+  /**
+   * Returns the latest published state of the game.
+   *
+   * @return the current snapshot
+   */
+  public GameSnapshot current() {
+    return published.get();
+  }
+
+  /**
+   * Returns an independent copy of the game as it is now, for look-ahead search. Unlike
+   * {@link #current()} the copy knows the order the decks will be drawn in and can be
+   * played on with {@link BasicSanguine#makeMove(int, int, int)}.
+   *
+   * @return a copy of the underlying game
+   */
+  public BasicSanguine copyGame() {
+    synchronized (writeLock) {
+      return game.copy();
+    }
+  }
+
+  @Override
+  public void playCard(int cardIndex, int row, int col) {
+    synchronized (writeLock) {
+      game.playCard(cardIndex, row, col);
+      publish();
+    }
+  }
+
+  @Override
+  public void pass() {
+    synchronized (writeLock) {
+      game.pass();
+      publish();
+    }
+  }
+
+  /**
+   * Applies the moves as one batch: readers see either the state before the batch or the
+   * state after it (or after the move that failed), and listeners are told once. If no
+   * move was applied, nothing is published and listeners are not told anything.
+   *
+   * @param moves the packed moves to apply
+   */
+  @Override
+  public void applyMoves(int... moves) {
+    if (moves == null) {
+      throw new IllegalArgumentException("moves cannot be null");
+    }
+    synchronized (writeLock) {
+      long before = game.movesPlayed();
+      try {
+        game.applyMoves(moves);
+      } finally {
+        if (game.movesPlayed() != before) {
+          publish();
+        }
+      }
+    }
+  }
+
+  /**
+   * Publishes the game's new state and then tells listeners about it, so a listener always
+   * reads the state it is being told about (or a later one).
+   */
+  private void publish() {
+    GameSnapshot snapshot = game.snapshot();
+    published.set(snapshot);
+    for (GameStatusListener l : statusListeners) {
+      l.turnChanged(snapshot.getCurrentPlayer());
+    }
+    if (snapshot.isGameOver()) {
+      for (GameStatusListener l : statusListeners) {
+        l.gameOver(snapshot.getWinner(), snapshot.getTotalScore(Player.RED),
+            snapshot.getTotalScore(Player.BLUE));
+      }
+    }
+  }
+
+  @Override
+  public void addGameStatusListener(GameStatusListener listener) {
+    statusListeners.add(listener);
+  }
+
+  @Override
+  public void startGame() {
+    GameSnapshot snapshot = current();
+    for (GameStatusListener l : statusListeners) {
+      l.turnChanged(snapshot.getCurrentPlayer());
+    }
+  }
+
+  @Override
+  public SanguineBoard getBoard() {
+    return current().getBoard();
+  }
+
+  @Override
+  public int getScore(int row, Player player) {
+    return current().getScore(row, player);
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return current().isGameOver();
+  }
+
+  @Override
+  public int getBoardHeight() {
+    return current().getBoardHeight();
+  }
+
+  @Override
+  public int getBoardWidth() {
+    return current().getBoardWidth();
+  }
+
+  @Override
+  public Cell getCell(int row, int col) {
+    return current().getCell(row, col);
+  }
+
+  @Override
+  public List<SanguineCard> getHand(Player player) {
+    return current().getHand(player);
+  }
+
+  @Override
+  public Player getOwner(int row, int col) {
+    return current().getOwner(row, col);
+  }
+
+  @Override
+  public int pawnCount(int row, int col) {
+    return current().pawnCount(row, col);
+  }
+
+  @Override
+  public SanguineCard cardAt(int row, int col) {
+    return current().cardAt(row, col);
+  }
+
+  @Override
+  public int handSize(Player player) {
+    return current().handSize(player);
+  }
+
+  @Override
+  public SanguineCard handCard(Player player, int index) {
+    return current().handCard(player, index);
+  }
+
+  @Override
+  public boolean canPlayCard(int cardIdx, int row, int col) {
+    return current().canPlayCard(cardIdx, row, col);
+  }
+
+  @Override
+  public void legalMoves(Player player, MoveBuffer out) {
+    current().legalMoves(player, out);
+  }
+
+  @Override
+  public int getTotalScore(Player player) {
+    return current().getTotalScore(player);
+  }
+
+  @Override
+  public Player getWinner() {
+    return current().getWinner();
+  }
+
+  @Override
+  public Player getCurrentPlayer() {
+    return current().getCurrentPlayer();
+  }
+
+  @Override
+  public long getZobristKey() {
+    return current().getZobristKey();
+  }
+}
@@ -0,0 +1,153 @@
+package sanguine.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A process-wide cache of parsed decks, so games built from the same deck file read it
+ * from disk once. Decks are keyed by the file's canonical path and checked against its
+ * modification time and size on every lookup, so an edited file is read again. The cache
+ * holds at most {@link #MAX_ENTRIES} decks, dropping the least recently used.
+ *
+ * <p>The cached decks are immutable lists of the cards {@link CardRegistry} interned, so
+ * every game built from the cache shares the same card objects. Dropping a deck does not
+ * unregister its cards; the registry's own bound is described in {@link CardRegistry}.
+ */
+public final class DeckCache {
+
+  /**
+   * The most decks the cache holds at once.
+   */
+  public static final int MAX_ENTRIES = 32;
+
+  /**
+   * A parsed deck and the file state it was read from. The arrays are shared and must not
+   * be modified.
+   *
+   * @param modified the file's modification time in milliseconds when it was read
+   * @param size the file's size in bytes when it was read
+   * @param cards the cards in file order
+   * @param ids the cards' registry ids in file order
+   * @param indexById the first position of each card id in the deck, or -1
+   */
+  record Entry(long modified, long size, List<SanguineCard> cards, int[] ids,
+               int[] indexById) {}
+
+  private static final Map<Path, Entry> ENTRIES =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, Entry> eldest) {
+          return size() > MAX_ENTRIES;
+        }
+      };
+
+  private DeckCache() {}
+
+  /**
+   * Returns the deck in the given file, reading it only if it is not cached or the file
+   * has changed since it was cached.
+   *
+   * @param path path to a deck file, text or compiled
+   * @return an immutable list of the deck's cards in file order
+   * @throws IllegalArgumentException if there's an issue with the file
+   */
+  public static List<SanguineCard> get(String path) {
+    return entry(path).cards();
+  }
+
+  /**
+   * Drops the deck in the given file from the cache, if it is cached.
+   *
+   * @param path path to a deck file
+   * @throws IllegalArgumentException if the path is null
+   */
+  public static void invalidate(String path) {
+    if (path == null) {
+      throw new IllegalArgumentException("path cannot be null");
+    }
+    Path key;
+    try {
+      key = Paths.get(path).toRealPath();
+    } catch (IOException e) {
+      key = Paths.get(path).toAbsolutePath().normalize();
+    }
+    synchronized (ENTRIES) {
+      ENTRIES.remove(key);
+    }
+  }
+
+  /**
+   * Drops every cached deck.
+   */
+  public static void clear() {
+    synchronized (ENTRIES) {
+      ENTRIES.clear();
+    }
+  }
+
+  /**
+   * Returns the number of cached decks.
+   *
+   * @return the number of cached decks
+   */
+  public static int size() {
+    synchronized (ENTRIES) {
+      return ENTRIES.size();
+    }
+  }
+
+  /**
+   * Returns the cached entry for the given file, reading the file if needed. A file is
+   * read outside the lock, so two threads that miss at once may both read it; the result
+   * is the same either way.
+   */
+  static Entry entry(String path) {
+    if (path == null) {
+      throw new IllegalArgumentException("path cannot be null");
+    }
+    Path key;
+    BasicFileAttributes attributes;
+    try {
+      key = Paths.get(path).toRealPath();
+      attributes = Files.readAttributes(key, BasicFileAttributes.class);
+    } catch (NoSuchFileException e) {
+      throw new IllegalArgumentException("deck file not found: " + path, e);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("could not read deck file: " + path, e);
+    }
+    long modified = attributes.lastModifiedTime().toMillis();
+    long size = attributes.size();
+    synchronized (ENTRIES) {
+      Entry entry = ENTRIES.get(key);
+      if (entry != null && entry.modified() == modified && entry.size() == size) {
+        return entry;
+      }
+    }
+
+    List<SanguineCard> cards = List.copyOf(DeckReader.readDeck(key.toString()));
+    int[] ids = new int[cards.size()];
+    int maxId = 0;
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = CardRegistry.idOf(cards.get(i));
+      maxId = Math.max(maxId, ids[i]);
+    }
+    int[] indexById = new int[maxId + 1];
+    Arrays.fill(indexById, -1);
+    for (int i = ids.length - 1; i >= 0; i--) {
+      indexById[ids[i]] = i;
+    }
+    Entry entry = new Entry(modified, size, cards, ids, indexById);
+    synchronized (ENTRIES) {
+      ENTRIES.put(key, entry);
+    }
+    return entry;
+  }
+}
@@ -0,0 +1,93 @@
+package sanguine.model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Compiles deck configuration files into a compact binary form that {@link DeckReader}
+ * loads by memory-mapping the file, without parsing any text. Compiled decks are read
+ * through the same {@link DeckReader#readDeck(String)} call as text decks; the format is
+ * told apart by its leading magic number.
+ *
+ * <p>The format is big-endian: the magic number, a format version, the number of cards,
+ * and then for each card its name (an unsigned short length and that many UTF-8 bytes),
+ * its cost and value, and its influence mask as returned by
+ * {@link SanguineCard#getInfluenceMask(Player)} for red.
+ *
+ * <p>Run as {@code DeckCompiler <input.deck> <output>} to compile a deck file.
+ */
+public final class DeckCompiler {
+  // "SGDK"
+  static final int MAGIC = 0x5347444B;
+  static final int VERSION = 1;
+
+  private DeckCompiler() {}
+
+  /**
+   * Compiles the deck file at the given path into a binary deck at the other path.
+   *
+   * @param args the input deck file and the output file
+   * @throws IllegalArgumentException if the arguments are wrong or the deck is invalid
+   */
+  public static void main(String[] args) {
+    if (args.length != 2) {
+      throw new IllegalArgumentException("usage: DeckCompiler <input.deck> <output>");
+    }
+    compile(args[0], args[1]);
+  }
+
+  /**
+   * Compiles a deck file (text or already compiled) into a binary deck.
+   *
+   * @param deckFile the deck to read
+   * @param outFile the file to write, replaced if it exists
+   * @throws IllegalArgumentException if the deck cannot be read or the output written
+   */
+  public static void compile(String deckFile, String outFile) {
+    if (outFile == null) {
+      throw new IllegalArgumentException("output path cannot be null");
+    }
+    List<SanguineCard> cards = DeckReader.readDeck(deckFile);
+    try (OutputStream out = Files.newOutputStream(Paths.get(outFile))) {
+      write(cards, out);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("could not write compiled deck: " + outFile, e);
+    }
+  }
+
+  /**
+   * Writes the cards to the stream in the compiled format. The stream is not closed.
+   *
+   * @param cards the cards in deck order, with influence as seen by red
+   * @param out the stream to write to
+   * @throws IOException if the stream cannot be written
+   * @throws IllegalArgumentException if the cards are null or a name is too long
+   */
+  public static void write(List<SanguineCard> cards, OutputStream out) throws IOException {
+    if (cards == null || out == null) {
+      throw new IllegalArgumentException("cards and stream cannot be null");
+    }
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MAGIC);
+    data.writeShort(VERSION);
+    data.writeInt(cards.size());
+    for (SanguineCard card : cards) {
+      byte[] name = card.getName().getBytes(StandardCharsets.UTF_8);
+      if (name.length > 0xFFFF) {
+        throw new IllegalArgumentException("card name too long: " + card.getName());
+      }
+      data.writeShort(name.length);
+      data.write(name);
+      data.writeInt(card.getCost());
+      data.writeInt(card.getValue());
+      data.writeInt(card.getInfluenceMask(Player.RED));
+    }
+    data.flush();
+  }
+}
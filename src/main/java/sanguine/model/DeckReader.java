@@ -1,73 +1,343 @@
 package sanguine.model;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 /**
  * Reads a deck configuration file and returns a list of SanguineCards.
  * The influence grid is stored in red's pov the board calls flipGrid for blue.
+ * The cards are interned through {@link CardRegistry}, so they are shared and immutable.
+ *
+ * <p>A deck is a sequence of cards separated by any number of blank lines. Each card is a
+ * header line {@code NAME COST VALUE} followed by five rows of five characters: {@code I}
+ * for an influenced cell, {@code X} for an uninfluenced one and {@code C} for the card
+ * itself in the middle. The parser streams through its input a buffer at a time, so decks
+ * of any size are read in one pass, and its errors give the line they were found on.
+ * Decks compiled by {@link DeckCompiler} skip parsing entirely.
  */
 public final class DeckReader {
 
   private DeckReader() {}
 
   /**
-   * Reads a deck from the given file path.
+   * Reads a deck from the given file path. The file may be a text deck or one compiled by
+   * {@link DeckCompiler}; compiled decks are memory-mapped and read without parsing.
    *
    * @param path path to the deck config file
    * @return list of cards in the order they appear in the file
    * @throws IllegalArgumentException if there's an issue with the file
    */
   public static List<SanguineCard> readDeck(String path) {
-    List<SanguineCard> cards = new ArrayList<>();
+    if (path == null) {
+      throw new IllegalArgumentException("path cannot be null");
+    }
+    try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+      if (isCompiled(channel)) {
+        return readCompiled(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), path);
+      }
+      channel.position(0);
+      return readDeck(Channels.newReader(channel, StandardCharsets.UTF_8));
+    } catch (NoSuchFileException e) {
+      throw new IllegalArgumentException("deck file not found: " + path, e);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("could not read deck file: " + path, e);
+    }
+  }
+
+  /**
+   * Returns whether the channel starts with the compiled deck magic number.
+   */
+  private static boolean isCompiled(FileChannel channel) throws IOException {
+    ByteBuffer magic = ByteBuffer.allocate(4);
+    while (magic.hasRemaining()) {
+      if (channel.read(magic) < 0) {
+        return false;
+      }
+    }
+    return magic.getInt(0) == DeckCompiler.MAGIC;
+  }
+
+  /**
+   * Reads the cards of a compiled deck from the buffer, as written by
+   * {@link DeckCompiler#write}.
+   */
+  private static List<SanguineCard> readCompiled(ByteBuffer buffer, String path) {
+    try {
+      buffer.getInt();
+      int version = buffer.getShort() & 0xFFFF;
+      if (version != DeckCompiler.VERSION) {
+        throw new IllegalArgumentException("unsupported compiled deck version " + version
+            + ": " + path);
+      }
+      int count = buffer.getInt();
+      if (count < 0) {
+        throw new IllegalArgumentException("bad card count in compiled deck: " + path);
+      }
+      List<SanguineCard> cards = new ArrayList<>(Math.min(count, buffer.remaining() / 14));
+      byte[] name = new byte[64];
+      for (int i = 0; i < count; i++) {
+        int length = buffer.getShort() & 0xFFFF;
+        if (length > name.length) {
+          name = new byte[Math.max(length, name.length * 2)];
+        }
+        buffer.get(name, 0, length);
+        int cost = buffer.getInt();
+        int value = buffer.getInt();
+        int mask = buffer.getInt();
+        try {
+          cards.add(CardRegistry.intern(new BasicSanguineCard(
+              new String(name, 0, length, StandardCharsets.UTF_8), cost, value, mask)));
+        } catch (IllegalArgumentException e) {
+          throw new IllegalArgumentException("card " + i + ": " + e.getMessage() + ": "
+              + path, e);
+        }
+      }
+      return cards;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("truncated compiled deck: " + path, e);
+    }
+  }
+
+  /**
+   * Reads a deck from a resource on the classpath, such as one packaged in the game's jar.
+   *
+   * @param name the resource name, relative to the classpath root
+   * @return list of cards in the order they appear in the resource
+   * @throws IllegalArgumentException if the resource is missing or malformed
+   */
+  public static List<SanguineCard> readResource(String name) {
+    if (name == null) {
+      throw new IllegalArgumentException("name cannot be null");
+    }
+    ClassLoader loader = DeckReader.class.getClassLoader();
+    try (InputStream in = loader.getResourceAsStream(name)) {
+      if (in == null) {
+        throw new IllegalArgumentException("deck resource not found: " + name);
+      }
+      return readDeck(in);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("could not read deck resource: " + name, e);
+    }
+  }
+
+  /**
+   * Reads a deck from a UTF-8 stream. The stream is read to its end but not closed.
+   *
+   * @param in the stream to read
+   * @return list of cards in the order they appear in the stream
+   * @throws IllegalArgumentException if the stream cannot be read or is malformed
+   */
+  public static List<SanguineCard> readDeck(InputStream in) {
+    if (in == null) {
+      throw new IllegalArgumentException("stream cannot be null");
+    }
+    return readDeck(new InputStreamReader(in, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Reads a deck from a reader. The reader is read to its end but not closed, and does
+   * not need to be buffered.
+   *
+   * @param in the reader to read
+   * @return list of cards in the order they appear in the reader
+   * @throws IllegalArgumentException if the reader cannot be read or is malformed
+   */
+  public static List<SanguineCard> readDeck(Reader in) {
+    if (in == null) {
+      throw new IllegalArgumentException("reader cannot be null");
+    }
+    try {
+      return new Parser(in).parse();
+    } catch (IOException e) {
+      throw new IllegalArgumentException("could not read deck", e);
+    }
+  }
+
+  /**
+   * Parses a deck character by character from its own buffer, keeping track of the line.
+   */
+  private static final class Parser {
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder token = new StringBuilder();
+    private int pos;
+    private int limit;
+    private int line = 1;
+
+    private Parser(Reader in) {
+      this.in = in;
+    }
+
+    private List<SanguineCard> parse() throws IOException {
+      List<SanguineCard> cards = new ArrayList<>();
+      while (skipBlankLines()) {
+        cards.add(parseCard());
+      }
+      return cards;
+    }
+
+    /**
+     * Returns the next character without consuming it, or -1 at the end of input.
+     */
+    private int peek() throws IOException {
+      if (pos == limit) {
+        int n = in.read(buffer, 0, buffer.length);
+        if (n <= 0) {
+          return -1;
+        }
+        pos = 0;
+        limit = n;
+      }
+      return buffer[pos];
+    }
+
+    /**
+     * Consumes one character, counting lines.
+     */
+    private void skip() {
+      if (buffer[pos++] == '\n') {
+        line++;
+      }
+    }
+
+    /**
+     * Consumes the end of the current line (LF, CR LF or CR), returning false if the next
+     * character is not a line end. The end of input counts as a line end.
+     */
+    private boolean endLine() throws IOException {
+      int c = peek();
+      if (c == '\r') {
+        pos++;
+        if (peek() == '\n') {
+          pos++;
+        }
+        line++;
+        return true;
+      }
+      if (c == '\n') {
+        skip();
+        return true;
+      }
+      return c == -1;
+    }
 
-    try (Scanner sc = new Scanner(new File(path))) {
-      while (sc.hasNextLine()) {
-        String header = sc.nextLine();
-        if (header.trim().isEmpty()) {
-          continue;
+    /**
+     * Skips whitespace, including whole blank lines, and returns whether there is more to
+     * read.
+     */
+    private boolean skipBlankLines() throws IOException {
+      int c;
+      while ((c = peek()) != -1 && Character.isWhitespace(c)) {
+        if (c == '\r') {
+          endLine();
+        } else {
+          skip();
         }
-        header = header.trim();
+      }
+      return c != -1;
+    }
+
+    /**
+     * Skips spaces and tabs within the current line.
+     */
+    private void skipSpaces() throws IOException {
+      int c;
+      while ((c = peek()) == ' ' || c == '\t') {
+        pos++;
+      }
+    }
+
+    /**
+     * Reads the characters up to the next whitespace into the token buffer.
+     */
+    private void readToken() throws IOException {
+      token.setLength(0);
+      int c;
+      while ((c = peek()) != -1 && !Character.isWhitespace(c)) {
+        token.append((char) c);
+        pos++;
+      }
+    }
 
-        String[] parts = header.split("\\s+");
-        if (parts.length != 3) {
-          throw new IllegalArgumentException("bad header line: " + header);
+    private int readInt() throws IOException {
+      readToken();
+      int i = token.length() > 0 && token.charAt(0) == '-' ? 1 : 0;
+      if (i == token.length() || token.length() - i > 9) {
+        throw error("bad header line");
+      }
+      int n = 0;
+      for (; i < token.length(); i++) {
+        char ch = token.charAt(i);
+        if (ch < '0' || ch > '9') {
+          throw error("bad header line");
         }
+        n = n * 10 + (ch - '0');
+      }
+      return token.charAt(0) == '-' ? -n : n;
+    }
 
-        String name  = parts[0];
-        int cost  = Integer.parseInt(parts[1]);
-        int value = Integer.parseInt(parts[2]);
+    private SanguineCard parseCard() throws IOException {
+      int headerLine = line;
+      readToken();
+      String name = token.toString();
+      skipSpaces();
+      int cost = readInt();
+      skipSpaces();
+      int value = readInt();
+      skipSpaces();
+      if (!endLine()) {
+        throw error("bad header line");
+      }
 
-        boolean[][] influence = new boolean[5][5];
-        for (int r = 0; r < 5; r++) {
-          String row = sc.nextLine();
-          if (row.length() != 5) {
-            throw new IllegalArgumentException("influence row must be 5 chars: " + row);
-          }
-          for (int c = 0; c < 5; c++) {
-            char ch = row.charAt(c);
-            if (ch == 'C') {
-              if (r != 2 || c != 2) {
-                throw new IllegalArgumentException("'C' must be at center (2,2)");
+      boolean[][] influence = new boolean[5][5];
+      for (int r = 0; r < 5; r++) {
+        if (peek() == -1) {
+          throw error("unexpected end of file, expected influence row");
+        }
+        int c;
+        int length = 0;
+        while ((c = peek()) != -1 && c != '\n' && c != '\r') {
+          if (length < 5) {
+            if (c == 'C') {
+              if (r != 2 || length != 2) {
+                throw error("'C' must be at center (2,2)");
               }
-              influence[r][c] = false;
-            } else if (ch == 'I') {
-              influence[r][c] = true;
-            } else if (ch != 'X') {
-              throw new IllegalArgumentException("invalid char in grid: '" + ch + "'");
+            } else if (c == 'I') {
+              influence[r][length] = true;
+            } else if (c != 'X') {
+              throw error("invalid char in grid: '" + (char) c + "'");
             }
           }
+          length++;
+          pos++;
+        }
+        if (length != 5) {
+          throw error("influence row must be 5 chars");
         }
+        endLine();
+      }
 
-        cards.add(new BasicSanguineCard(name, cost, value, influence));
+      try {
+        return CardRegistry.intern(new BasicSanguineCard(name, cost, value, influence));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("line " + headerLine + ": " + e.getMessage(), e);
       }
-    } catch (FileNotFoundException e) {
-      throw new IllegalArgumentException("deck file not found: " + path, e);
     }
 
-    return cards;
+    private IllegalArgumentException error(String message) {
+      return new IllegalArgumentException("line " + line + ": " + message);
+    }
   }
-}
\ No newline at end of file
+}
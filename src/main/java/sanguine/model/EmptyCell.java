@@ -1,14 +1,26 @@
 package sanguine.model;
 
 /**
- * Represents a cell with nothing on it.
+ * Represents a cell with nothing on it. Empty cells are immutable, so boards share the
+ * single instance returned by {@link #instance()}.
  */
-public class EmptyCell implements Cell {
+public final class EmptyCell implements Cell {
+  private static final EmptyCell INSTANCE = new EmptyCell();
+
   /**
-   * Creates a new empty cell.
+   * Creates a new empty cell. Prefer {@link #instance()}, which never allocates.
    */
   public EmptyCell() {}
 
+  /**
+   * Returns the shared empty cell.
+   *
+   * @return the canonical empty cell.
+   */
+  public static EmptyCell instance() {
+    return INSTANCE;
+  }
+
   @Override
   public boolean canAddCard(SanguineCard card) {
     return false;
@@ -16,7 +28,7 @@ public class EmptyCell implements Cell {
 
   @Override
   public Cell addPawns(Player player) {
-    return new PawnsCell(player, 1);
+    return PawnsCell.of(player, 1);
   }
 
   @Override
@@ -38,6 +50,6 @@ public class EmptyCell implements Cell {
 
   @Override
   public Cell makeCopy() {
-    return new EmptyCell();
+    return this;
   }
 }
@@ -0,0 +1,164 @@
+package sanguine.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable view of a whole game at one point in time: the board, both hands, whose
+ * turn it is and whether the game is over. Every method only reads final state, so a
+ * snapshot can be shared between any number of threads without locking.
+ */
+public final class GameSnapshot implements ReadOnlySanguineModel {
+  private final SanguineBoard board;
+  private final List<SanguineCard> redHand;
+  private final List<SanguineCard> blueHand;
+  private final Player currentPlayer;
+  private final boolean gameOver;
+  private final long zobristKey;
+
+  /**
+   * Creates a snapshot. The board must be immutable and the hands unmodifiable.
+   *
+   * @param board an immutable board snapshot
+   * @param redHand red's hand
+   * @param blueHand blue's hand
+   * @param currentPlayer the player whose turn it is
+   * @param gameOver whether the game is over
+   * @param zobristKey the Zobrist key of the game state
+   */
+  GameSnapshot(SanguineBoard board, List<SanguineCard> redHand, List<SanguineCard> blueHand,
+               Player currentPlayer, boolean gameOver, long zobristKey) {
+    this.board = board;
+    this.redHand = redHand;
+    this.blueHand = blueHand;
+    this.currentPlayer = currentPlayer;
+    this.gameOver = gameOver;
+    this.zobristKey = zobristKey;
+  }
+
+  @Override
+  public SanguineBoard getBoard() {
+    return board;
+  }
+
+  @Override
+  public int getScore(int row, Player player) {
+    return board.getScore(row, player);
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return gameOver;
+  }
+
+  @Override
+  public int getBoardHeight() {
+    return board.getHeight();
+  }
+
+  @Override
+  public int getBoardWidth() {
+    return board.getWidth();
+  }
+
+  @Override
+  public Cell getCell(int row, int col) {
+    if (!isValidPos(row, col)) {
+      throw new IllegalArgumentException("invalid row or col");
+    }
+    return board.getCell(row, col).makeCopy();
+  }
+
+  @Override
+  public List<SanguineCard> getHand(Player player) {
+    return new ArrayList<>(hand(player));
+  }
+
+  @Override
+  public Player getOwner(int row, int col) {
+    if (!isValidPos(row, col)) {
+      throw new IllegalArgumentException("invalid row or col");
+    }
+    return board.getCell(row, col).getOwner();
+  }
+
+  @Override
+  public int pawnCount(int row, int col) {
+    if (!isValidPos(row, col)) {
+      throw new IllegalArgumentException("invalid row or col");
+    }
+    return board.getCell(row, col).getPawnCount();
+  }
+
+  @Override
+  public SanguineCard cardAt(int row, int col) {
+    if (!isValidPos(row, col)) {
+      throw new IllegalArgumentException("invalid row or col");
+    }
+    return board.getCell(row, col).getCard();
+  }
+
+  @Override
+  public int handSize(Player player) {
+    return hand(player).size();
+  }
+
+  @Override
+  public SanguineCard handCard(Player player, int index) {
+    List<SanguineCard> hand = hand(player);
+    if (index < 0 || index >= hand.size()) {
+      throw new IllegalArgumentException("invalid card index");
+    }
+    return hand.get(index);
+  }
+
+  @Override
+  public boolean canPlayCard(int cardIdx, int row, int col) {
+    List<SanguineCard> hand = hand(currentPlayer);
+    if (!isValidPos(row, col) || cardIdx < 0 || cardIdx >= hand.size()) {
+      return false;
+    }
+    Cell cell = board.getCell(row, col);
+    return cell.getOwner() == currentPlayer && cell.canAddCard(hand.get(cardIdx));
+  }
+
+  @Override
+  public int getTotalScore(Player player) {
+    int score = 0;
+    for (int row = 0; row < board.getHeight(); row++) {
+      score += board.getScore(row, player);
+    }
+    return score;
+  }
+
+  @Override
+  public Player getWinner() {
+    int blueScore = getTotalScore(Player.BLUE);
+    int redScore = getTotalScore(Player.RED);
+    if (!gameOver || blueScore == redScore) {
+      return null;
+    }
+    return blueScore > redScore ? Player.BLUE : Player.RED;
+  }
+
+  @Override
+  public Player getCurrentPlayer() {
+    return currentPlayer;
+  }
+
+  @Override
+  public long getZobristKey() {
+    return zobristKey;
+  }
+
+  private List<SanguineCard> hand(Player player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    return player == Player.RED ? redHand : blueHand;
+  }
+
+  private boolean isValidPos(int row, int col) {
+    return row >= 0 && col >= 0 && row < board.getHeight() && col < board.getWidth();
+  }
+}
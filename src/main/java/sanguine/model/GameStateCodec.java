@@ -0,0 +1,235 @@
+package sanguine.model;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Packs the whole state of a {@link BasicSanguine} game into a compact byte array and
+ * restores it again. Cards are stored by their position in the game's deck rather than by
+ * registry id, so an encoded state can be decoded in any process into a game built from
+ * the same deck file, shuffle seed and board size. A 3x5 game with five-card hands takes 78 bytes.
+ *
+ * <p>The layout is big-endian:
+ * <ul>
+ *   <li>rows and columns (two shorts) and a checksum of both players' decks (an int)</li>
+ *   <li>the player to move (a byte, 0 for red) and the pass count, capped at 2 since the
+ *       game is over either way (a byte)</li>
+ *   <li>how many cards red and blue have drawn (two shorts)</li>
+ *   <li>red's hand size (a byte) then its cards, and the same for blue; each card is the
+ *       short deck position of the first copy of that card</li>
+ *   <li>every cell in row-major order as a short: 0 when empty, otherwise bit 14 for a red
+ *       owner or bit 15 for blue, plus either bit 13 and the card's deck position or the
+ *       pawn count</li>
+ *   <li>red's and blue's score in each row (two shorts per row), checked when decoding</li>
+ * </ul>
+ */
+public final class GameStateCodec {
+  private static final int RED_OWNER = 0x4000;
+  private static final int BLUE_OWNER = 0x8000;
+  private static final int CARD = 0x2000;
+  private static final int MAX_INDEX = 0x1FFF;
+
+  private GameStateCodec() {}
+
+  /**
+   * Returns the number of bytes the game's current state encodes to.
+   *
+   * @param game the game to measure
+   * @return the encoded size in bytes
+   */
+  public static int encodedSize(BasicSanguine game) {
+    int cells = game.getBoardHeight() * game.getBoardWidth();
+    int hands = game.handSize(Player.RED) + game.handSize(Player.BLUE);
+    return 16 + 2 * hands + 2 * cells + 4 * game.getBoardHeight();
+  }
+
+  /**
+   * Encodes the game's current state.
+   *
+   * @param game the game to encode
+   * @return the encoded state
+   * @throws IllegalArgumentException if the game is null or its deck, hands or scores are
+   *     too large for the format
+   */
+  public static byte[] encode(BasicSanguine game) {
+    if (game == null) {
+      throw new IllegalArgumentException("game cannot be null");
+    }
+    int rows = game.getBoardHeight();
+    int cols = game.getBoardWidth();
+    if (game.deckIds().length > MAX_INDEX + 1) {
+      throw new IllegalArgumentException("deck too large to encode");
+    }
+    ByteBuffer out = ByteBuffer.allocate(encodedSize(game));
+    out.putShort((short) rows).putShort((short) cols).putInt(deckChecksum(game));
+    out.put((byte) game.getCurrentPlayer().ordinal());
+    out.put((byte) Math.min(game.consecutivePasses(), 2));
+    out.putShort((short) game.drawnCount(Player.RED));
+    out.putShort((short) game.drawnCount(Player.BLUE));
+    for (Player p : Player.values()) {
+      int size = game.handSize(p);
+      if (size > 0xFF) {
+        throw new IllegalArgumentException("hand too large to encode");
+      }
+      out.put((byte) size);
+      for (int i = 0; i < size; i++) {
+        out.putShort((short) game.deckIndexOf(game.handCardId(p, i)));
+      }
+    }
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < cols; c++) {
+        Player owner = game.getOwner(r, c);
+        int code = 0;
+        if (owner != null) {
+          code = owner == Player.RED ? RED_OWNER : BLUE_OWNER;
+          int card = game.cardIdAt(r, c);
+          code |= card >= 0 ? CARD | game.deckIndexOf(card) : game.pawnCount(r, c);
+        }
+        out.putShort((short) code);
+      }
+    }
+    for (int r = 0; r < rows; r++) {
+      out.putShort(checkedScore(game.getScore(r, Player.RED)));
+      out.putShort(checkedScore(game.getScore(r, Player.BLUE)));
+    }
+    return out.array();
+  }
+
+  /**
+   * Replaces the state of the given game with an encoded one. The game must have been built
+   * from the same deck, shuffle seed and board size as the game that was encoded. Listeners are not
+   * notified, and moves made with {@link BasicSanguine#makeMove(int, int, int)} before the
+   * call can no longer be unmade. The game is left unchanged if decoding fails.
+   *
+   * @param data the encoded state
+   * @param game the game to restore into
+   * @throws IllegalArgumentException if the data is malformed or does not fit the game
+   */
+  public static void decodeInto(byte[] data, BasicSanguine game) {
+    if (data == null || game == null) {
+      throw new IllegalArgumentException("data and game cannot be null");
+    }
+    int[] deck = game.deckIds();
+    int rows = game.getBoardHeight();
+    int cols = game.getBoardWidth();
+    ByteBuffer in = ByteBuffer.wrap(data);
+    try {
+      if (in.getShort() != rows || in.getShort() != cols
+          || in.getInt() != deckChecksum(game)) {
+        throw new IllegalArgumentException("state does not match this game");
+      }
+      int turn = in.get();
+      int passes = in.get();
+      int redDrawn = in.getShort();
+      int blueDrawn = in.getShort();
+      if (turn < 0 || turn > 1 || passes < 0 || passes > 2 || redDrawn < 0
+          || redDrawn > deck.length || blueDrawn < 0 || blueDrawn > deck.length) {
+        throw new IllegalArgumentException("corrupt game state");
+      }
+      int[] redIds = readHand(in, deck);
+      int[] blueIds = readHand(in, deck);
+
+      Cell[][] cells = new Cell[rows][cols];
+      int[] redScores = new int[rows];
+      int[] blueScores = new int[rows];
+      for (int r = 0; r < rows; r++) {
+        for (int c = 0; c < cols; c++) {
+          int code = in.getShort() & 0xFFFF;
+          cells[r][c] = readCell(code, deck);
+          if ((code & CARD) != 0) {
+            int value = cells[r][c].getCard().getValue();
+            if (cells[r][c].getOwner() == Player.RED) {
+              redScores[r] += value;
+            } else {
+              blueScores[r] += value;
+            }
+          }
+        }
+      }
+      for (int r = 0; r < rows; r++) {
+        if (in.getShort() != redScores[r] || in.getShort() != blueScores[r]) {
+          throw new IllegalArgumentException("corrupt game state");
+        }
+      }
+      if (in.hasRemaining()) {
+        throw new IllegalArgumentException("corrupt game state");
+      }
+      game.restore(Player.values()[turn], passes, redDrawn, blueDrawn, redIds, blueIds,
+          cells);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("truncated game state", e);
+    }
+  }
+
+  /**
+   * Reads a hand size and that many deck positions, returning the cards' ids.
+   */
+  private static int[] readHand(ByteBuffer in, int[] deck) {
+    int[] ids = new int[in.get() & 0xFF];
+    for (int i = 0; i < ids.length; i++) {
+      int index = in.getShort();
+      if (index < 0 || index >= deck.length) {
+        throw new IllegalArgumentException("corrupt game state");
+      }
+      ids[i] = deck[index];
+    }
+    return ids;
+  }
+
+  /**
+   * Turns an encoded cell back into a cell.
+   */
+  private static Cell readCell(int code, int[] deck) {
+    if (code == 0) {
+      return EmptyCell.instance();
+    }
+    Player owner;
+    if ((code & (RED_OWNER | BLUE_OWNER)) == RED_OWNER) {
+      owner = Player.RED;
+    } else if ((code & (RED_OWNER | BLUE_OWNER)) == BLUE_OWNER) {
+      owner = Player.BLUE;
+    } else {
+      throw new IllegalArgumentException("corrupt game state");
+    }
+    int rest = code & MAX_INDEX;
+    if ((code & CARD) != 0) {
+      if (rest >= deck.length) {
+        throw new IllegalArgumentException("corrupt game state");
+      }
+      return CardRegistry.cell(deck[rest], owner);
+    }
+    if (rest < 1 || rest > 3) {
+      throw new IllegalArgumentException("corrupt game state");
+    }
+    return PawnsCell.of(owner, rest);
+  }
+
+  /**
+   * Returns a row score as a short.
+   */
+  private static short checkedScore(int score) {
+    if (score > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("score too large to encode");
+    }
+    return (short) score;
+  }
+
+  /**
+   * Folds the contents of the deck, in file order and in each player's draw order, into
+   * 32 bits, so states only decode into games with the same deck and the same shuffle. It
+   * depends only on the cards themselves, not on registry ids, so it is the same in every
+   * process.
+   */
+  private static int deckChecksum(BasicSanguine game) {
+    long h = game.deckIds().length;
+    for (int id : game.deckIds()) {
+      h = Zobrist.mix(h ^ CardRegistry.key(id));
+    }
+    for (Player p : Player.values()) {
+      for (int id : game.deckIds(p)) {
+        h = Zobrist.mix(h ^ CardRegistry.key(id));
+      }
+    }
+    return (int) (h ^ (h >>> 32));
+  }
+}
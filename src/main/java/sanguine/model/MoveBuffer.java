@@ -0,0 +1,143 @@
+package sanguine.model;
+
+import java.util.Arrays;
+
+/**
+ * A reusable, growable list of moves packed into ints, filled by
+ * {@link ReadOnlySanguineModel#legalMoves(Player, MoveBuffer)}. A packed move holds the
+ * hand index in bits 20-30, the row in bits 10-19 and the column in bits 0-9, so
+ * generating moves into a buffer that has already grown allocates nothing. Bit 31 is never
+ * set, so callers can use negative ints to mark something other than a card play (such as
+ * a pass) without colliding with any move.
+ */
+public final class MoveBuffer {
+
+  /**
+   * The largest hand index a packed move can hold.
+   */
+  public static final int MAX_CARD_INDEX = 0x7FF;
+
+  /**
+   * The largest row or column a packed move can hold.
+   */
+  public static final int MAX_POSITION = 0x3FF;
+
+  /**
+   * Stands for a pass where packed moves are listed, for example in
+   * {@link sanguine.controller.PublisherSanguineModel#applyMoves(int...)}. No packed card
+   * play is ever equal to it.
+   */
+  public static final int PASS = -1;
+
+  private int[] moves;
+  private int size;
+
+  /**
+   * Creates an empty buffer with room for 64 moves.
+   */
+  public MoveBuffer() {
+    this(64);
+  }
+
+  /**
+   * Creates an empty buffer with room for the given number of moves before it grows.
+   *
+   * @param capacity the initial capacity
+   * @throws IllegalArgumentException if capacity is not positive
+   */
+  public MoveBuffer(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    this.moves = new int[capacity];
+  }
+
+  /**
+   * Packs a card play into an int.
+   *
+   * @param cardIndex index of the card in the hand (0-{@value #MAX_CARD_INDEX})
+   * @param row row of the cell (0-{@value #MAX_POSITION})
+   * @param col column of the cell (0-{@value #MAX_POSITION})
+   * @return the packed move, never negative
+   * @throws IllegalArgumentException if a component is out of range
+   */
+  public static int encode(int cardIndex, int row, int col) {
+    if (cardIndex < 0 || cardIndex > MAX_CARD_INDEX || row < 0 || row > MAX_POSITION
+        || col < 0 || col > MAX_POSITION) {
+      throw new IllegalArgumentException("move out of range");
+    }
+    return cardIndex << 20 | row << 10 | col;
+  }
+
+  /**
+   * Returns the hand index of a packed move.
+   *
+   * @param move the packed move
+   * @return the card's index in the hand
+   */
+  public static int cardIndex(int move) {
+    return move >>> 20;
+  }
+
+  /**
+   * Returns the row of a packed move.
+   *
+   * @param move the packed move
+   * @return the row
+   */
+  public static int row(int move) {
+    return (move >>> 10) & MAX_POSITION;
+  }
+
+  /**
+   * Returns the column of a packed move.
+   *
+   * @param move the packed move
+   * @return the column
+   */
+  public static int col(int move) {
+    return move & MAX_POSITION;
+  }
+
+  /**
+   * Removes every move, keeping the capacity.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Appends a packed move, growing the buffer if needed.
+   *
+   * @param move the packed move
+   */
+  public void add(int move) {
+    if (size == moves.length) {
+      moves = Arrays.copyOf(moves, size * 2);
+    }
+    moves[size++] = move;
+  }
+
+  /**
+   * Returns the number of moves in the buffer.
+   *
+   * @return the number of moves
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the packed move at the given index.
+   *
+   * @param index index of the move
+   * @return the packed move
+   * @throws IndexOutOfBoundsException if the index is not below {@link #size()}
+   */
+  public int get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("index " + index + " of " + size);
+    }
+    return moves[index];
+  }
+}
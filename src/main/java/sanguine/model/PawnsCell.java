@@ -1,14 +1,22 @@
 package sanguine.model;
 
 /**
- * Represents a cell with at least one pawn on it.
+ * Represents a cell with at least one pawn on it. Pawn cells are immutable and there are
+ * only six distinct ones, so boards share the canonical instances returned by
+ * {@link #of(Player, int)}.
  */
-public class PawnsCell implements Cell {
+public final class PawnsCell implements Cell {
+  private static final PawnsCell[][] CANONICAL = {
+      {new PawnsCell(Player.RED, 1), new PawnsCell(Player.RED, 2), new PawnsCell(Player.RED, 3)},
+      {new PawnsCell(Player.BLUE, 1), new PawnsCell(Player.BLUE, 2),
+          new PawnsCell(Player.BLUE, 3)}
+  };
+
   private final int numPawns;
   private final Player pawnColor;
 
   /**
-   * Creates a new pawn cell.
+   * Creates a new pawn cell. Prefer {@link #of(Player, int)}, which never allocates.
    *
    * @param player   player owning the pawns
    * @param numPawns number of pawns (1–3)
@@ -25,6 +33,24 @@ public class PawnsCell implements Cell {
     this.numPawns = numPawns;
   }
 
+  /**
+   * Returns the shared pawn cell for the given player and pawn count.
+   *
+   * @param player   player owning the pawns
+   * @param numPawns number of pawns (1–3)
+   * @return the canonical pawn cell for that state
+   * @throws IllegalArgumentException if player is null or numPawns < 1 or > 3
+   */
+  public static PawnsCell of(Player player, int numPawns) {
+    if (player == null) {
+      throw new IllegalArgumentException();
+    }
+    if (numPawns < 1 || numPawns > 3) {
+      throw new IllegalArgumentException();
+    }
+    return CANONICAL[player.ordinal()][numPawns - 1];
+  }
+
   @Override
   public Player getOwner() {
     return pawnColor;
@@ -43,9 +69,9 @@ public class PawnsCell implements Cell {
   @Override
   public Cell addPawns(Player player) {
     if (player == pawnColor) {
-      return numPawns < 3 ? new PawnsCell(player, numPawns + 1) : this;
+      return numPawns < 3 ? of(player, numPawns + 1) : this;
     } else {
-      return new PawnsCell(player, numPawns);
+      return of(player, numPawns);
     }
   }
 
@@ -60,6 +86,6 @@ public class PawnsCell implements Cell {
 
   @Override
   public Cell makeCopy() {
-    return new PawnsCell(pawnColor, numPawns);
+    return this;
   }
 }
\ No newline at end of file
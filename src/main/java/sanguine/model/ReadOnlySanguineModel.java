@@ -7,7 +7,8 @@ import java.util.List;
  */
 public interface ReadOnlySanguineModel {
   /**
-   * Returns a copy of the current board.
+   * Returns an immutable snapshot of the current board, which does not change as the game
+   * continues.
    *
    * @return the current board.
    */
@@ -70,6 +71,83 @@ public interface ReadOnlySanguineModel {
    */
   public Player getOwner(int row, int col);
 
+  /**
+   * Returns the number of pawns on the cell at the given position, 0 if it holds a card or
+   * is empty. Unlike {@link #getCell(int, int)} this does not copy the cell.
+   *
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @return the number of pawns on the cell.
+   */
+  public default int pawnCount(int row, int col) {
+    return getCell(row, col).getPawnCount();
+  }
+
+  /**
+   * Returns the card played on the cell at the given position, or null if there is none.
+   * The card is shared with the model rather than copied and must not be modified.
+   *
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @return the card on the cell, or null.
+   */
+  public default SanguineCard cardAt(int row, int col) {
+    return getCell(row, col).getCard();
+  }
+
+  /**
+   * Returns the {@link CardRegistry} id of the card played on the cell at the given
+   * position, or -1 if there is none or it was never registered.
+   *
+   * @param row the row of the cell.
+   * @param col the column of the cell.
+   * @return the id of the card on the cell, or -1.
+   */
+  public default int cardIdAt(int row, int col) {
+    SanguineCard card = cardAt(row, col);
+    return card == null ? -1 : CardRegistry.lookup(card);
+  }
+
+  /**
+   * Returns the number of cards in the given player's hand without copying the hand.
+   *
+   * @param player the player whose hand to measure.
+   * @return the number of cards in their hand.
+   */
+  public default int handSize(Player player) {
+    return getHand(player).size();
+  }
+
+  /**
+   * Returns one card from the given player's hand without copying the hand. The card is
+   * shared with the model rather than copied and must not be modified.
+   *
+   * @param player the player whose hand to look in.
+   * @param index the index of the card in their hand.
+   * @return the card at that index.
+   * @throws IllegalArgumentException if the index is out of bounds
+   */
+  public default SanguineCard handCard(Player player, int index) {
+    List<SanguineCard> hand = getHand(player);
+    if (index < 0 || index >= hand.size()) {
+      throw new IllegalArgumentException("invalid card index");
+    }
+    return hand.get(index);
+  }
+
+  /**
+   * Returns the {@link CardRegistry} id of one card in the given player's hand, or -1 if
+   * the card was never registered.
+   *
+   * @param player the player whose hand to look in.
+   * @param index the index of the card in their hand.
+   * @return the id of the card at that index, or -1.
+   * @throws IllegalArgumentException if the index is out of bounds
+   */
+  public default int handCardId(Player player, int index) {
+    return CardRegistry.lookup(handCard(player, index));
+  }
+
   /**
    * Returns whether it is possible for the player to play the given card at the
    * given position.
@@ -102,4 +180,44 @@ public interface ReadOnlySanguineModel {
    * @return the current player
    */
   public Player getCurrentPlayer();
+
+  /**
+   * Fills the buffer with every card play the given player could make if it were their
+   * turn, packed as described in {@link MoveBuffer}. Moves are ordered by row from top to
+   * bottom, then by column starting from the player's own side (left for red, right for
+   * blue), then by hand index. This default goes through {@link #getCell(int, int)} and
+   * {@link #getHand(Player)}; models with direct access to their state override it.
+   *
+   * @param player the player to generate moves for.
+   * @param out the buffer to fill, cleared first.
+   */
+  public default void legalMoves(Player player, MoveBuffer out) {
+    out.clear();
+    List<SanguineCard> hand = getHand(player);
+    int width = getBoardWidth();
+    for (int row = 0; row < getBoardHeight(); row++) {
+      for (int i = 0; i < width; i++) {
+        int col = player == Player.RED ? i : width - 1 - i;
+        Cell cell = getCell(row, col);
+        if (cell.getOwner() == player && cell.getCard() == null) {
+          for (int card = 0; card < hand.size(); card++) {
+            if (hand.get(card).getCost() <= cell.getPawnCount()) {
+              out.add(MoveBuffer.encode(card, row, col));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns a 64-bit Zobrist key of the game state, for transposition tables and position
+   * caches. Equal states have equal keys. This default walks the whole board and both
+   * hands on every call; models that track their state incrementally override it.
+   *
+   * @return the key of the current game state.
+   */
+  public default long getZobristKey() {
+    return Zobrist.keyOf(this);
+  }
 }
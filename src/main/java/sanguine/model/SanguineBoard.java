@@ -16,6 +16,18 @@ public interface SanguineBoard {
    */
   public void playCard(SanguineCard card, Player player, int row, int col);
 
+  /**
+   * Places the given cell at the given position as it is, without applying any influence,
+   * and updates the row scores to match. Meant for restoring a saved position.
+   *
+   * @param row row of the cell.
+   * @param col column of the cell.
+   * @param cell the cell to place.
+   * @throws IllegalArgumentException if the position is off the board or the cell is null.
+   * @throws IllegalStateException if a checkpoint is open.
+   */
+  public void putCell(int row, int col, Cell cell);
+
   /**
    * Returns the score for the given player and row.
    *
@@ -39,6 +51,16 @@ public interface SanguineBoard {
    */
   public int getHeight();
 
+  /**
+   * Returns the cell at the given position.
+   *
+   * @param row row of the cell.
+   * @param col column of the cell.
+   * @return the cell at that position.
+   * @throws IllegalArgumentException if the position is off the board.
+   */
+  public Cell getCell(int row, int col);
+
   /**
    * Returns the list of cells that make up the board.
    *
@@ -50,4 +72,43 @@ public interface SanguineBoard {
    * Recalculates the scores in each row.
    */
   public void recalcAllScores();
+
+  /**
+   * Returns an immutable snapshot of the board as it is now. Later plays on this board are
+   * not visible through the snapshot.
+   *
+   * @return a snapshot of the current board.
+   */
+  public SanguineBoard snapshot();
+
+  /**
+   * Starts recording changes to the board so they can be undone by {@link #rollback(int)}.
+   * Checkpoints nest and must be rolled back in the reverse order they were taken.
+   *
+   * @return a mark identifying the board state at this point.
+   */
+  public int checkpoint();
+
+  /**
+   * Undoes every change made since the given checkpoint, including row scores, and closes
+   * that checkpoint.
+   *
+   * @param mark the mark returned by the matching {@link #checkpoint()}.
+   * @throws IllegalStateException if the mark does not belong to an open checkpoint.
+   */
+  public void rollback(int mark);
+
+  /**
+   * Closes every open checkpoint and forgets the changes recorded since, keeping the board
+   * as it is. Marks taken before the call can no longer be rolled back to.
+   */
+  public void discardCheckpoints();
+
+  /**
+   * Returns the Zobrist key of the cells on this board, kept up to date as cells change.
+   * Equal boards have equal keys, and different boards almost always have different keys.
+   *
+   * @return the board's 64-bit Zobrist key.
+   */
+  public long getZobristKey();
 }
@@ -47,4 +47,25 @@ public interface SanguineCard {
    * Returns a 5×5 boolean grid of influence (true means it affects the cell).
    */
   boolean[][] getInfluence();
+
+  /**
+   * Returns the influence grid packed into 25 bits as seen by the given player: bit
+   * {@code r * 5 + c} is set when grid cell (r, c) is influenced, with the card itself at
+   * (2, 2). Blue's mask is the red grid mirrored across the vertical axis.
+   *
+   * @param player the player playing this card.
+   * @return the packed influence mask for that player.
+   */
+  int getInfluenceMask(Player player);
+
+  /**
+   * Returns the id {@link CardRegistry} assigned to this card, or -1 if the card is not
+   * registered. Registered cards are shared and never change, so two registered cards are
+   * equal exactly when their ids are.
+   *
+   * @return this card's registry id, or -1.
+   */
+  default int getId() {
+    return -1;
+  }
 }
@@ -0,0 +1,144 @@
+package sanguine.model;
+
+/**
+ * Zobrist keys for game states. Instead of a table of random numbers per board position
+ * the keys are derived on demand by a 64-bit mixing function, which behaves like a random
+ * table but needs no memory on very large boards. A state's key is the XOR of the keys of
+ * its non-empty cells and turn state, so it can be updated incrementally by XOR-ing out the
+ * key of a cell's old state and XOR-ing in the new one.
+ */
+final class Zobrist {
+  private static final long PAWN_SEED = 0x6A09E667F3BCC908L;
+  private static final long CARD_SEED = 0xBB67AE8584CAA73BL;
+  private static final long HAND_SEED = 0x3C6EF372FE94F82BL;
+  private static final long PASS_SEED = 0xA54FF53A5F1D36F1L;
+  private static final long DECK_SEED = 0x510E527FADE682D1L;
+  private static final long ORDER_SEED = 0x1F83D9ABFB41BD6BL;
+  private static final long BLUE_TO_MOVE = 0x9B05688C2B3E6C1FL;
+
+  private Zobrist() {}
+
+  /**
+   * The SplitMix64 finalizer, a fast mixing function with good avalanche behaviour.
+   */
+  static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Returns a key identifying the card by its name, cost, value and influence. Registered
+   * cards have theirs precomputed.
+   */
+  static long cardKey(SanguineCard card) {
+    int id = card.getId();
+    return id >= 0 ? CardRegistry.key(id) : contentKey(card);
+  }
+
+  /**
+   * Computes the key of a card from its name, cost, value and influence.
+   */
+  static long contentKey(SanguineCard card) {
+    long k = card.getName().hashCode();
+    k = k * 31 + card.getCost();
+    k = k * 31 + card.getValue();
+    k = (k << 25) ^ card.getInfluenceMask(Player.RED);
+    return mix(k);
+  }
+
+  /**
+   * Returns the key of a cell with pawns at the given position.
+   */
+  static long pawnKey(int row, int col, Player owner, int count) {
+    return mix(((long) row << 40 | (long) col << 20 | owner.ordinal() << 2 | count)
+        ^ PAWN_SEED);
+  }
+
+  /**
+   * Returns the key of a card cell at the given position.
+   */
+  static long cardCellKey(int row, int col, Player owner, SanguineCard card) {
+    return mix(((long) row << 40 | (long) col << 20 | owner.ordinal()) ^ CARD_SEED
+        ^ cardKey(card));
+  }
+
+  /**
+   * Returns the key of the given cell at the given position, 0 for an empty cell.
+   */
+  static long cellKey(int row, int col, Cell cell) {
+    if (cell.getOwner() == null) {
+      return 0;
+    }
+    if (cell.getCard() != null) {
+      return cardCellKey(row, col, cell.getOwner(), cell.getCard());
+    }
+    return pawnKey(row, col, cell.getOwner(), cell.getPawnCount());
+  }
+
+  /**
+   * Returns the key of one card in the given player's hand. Hand keys are combined by
+   * addition rather than XOR, so two copies of the same card do not cancel out.
+   */
+  static long handKey(Player player, SanguineCard card) {
+    return mix(cardKey(card) ^ HAND_SEED ^ player.ordinal());
+  }
+
+  /**
+   * Returns the key of the registered card with the given id in the given player's hand.
+   */
+  static long handKey(Player player, int cardId) {
+    return mix(CardRegistry.key(cardId) ^ HAND_SEED ^ player.ordinal());
+  }
+
+  /**
+   * Returns the key for whose turn it is and how many consecutive passes were made.
+   */
+  static long turnKey(Player current, int consecutivePasses) {
+    return (current == Player.BLUE ? BLUE_TO_MOVE : 0) ^ mix(PASS_SEED + consecutivePasses);
+  }
+
+  /**
+   * Returns the key for how many cards are left in each player's deck.
+   */
+  static long deckKey(int redRemaining, int blueRemaining) {
+    return mix(DECK_SEED ^ ((long) redRemaining << 32 | blueRemaining));
+  }
+
+  /**
+   * Returns the key for the order both players draw their decks in, which is fixed for a
+   * game. It keeps apart states that look the same but will draw different cards, such as
+   * the same position in games shuffled with different seeds.
+   */
+  static long orderKey(int[] redOrder, int[] blueOrder) {
+    long h = ORDER_SEED;
+    for (int id : redOrder) {
+      h = mix(h ^ CardRegistry.key(id));
+    }
+    for (int id : blueOrder) {
+      h = mix(h ^ CardRegistry.key(id));
+    }
+    return h;
+  }
+
+  /**
+   * Computes a key for any model from its public state by walking the whole board. The
+   * pass count is not visible through the read-only interface, so only whether the game
+   * is over is included.
+   */
+  static long keyOf(ReadOnlySanguineModel model) {
+    long key = 0;
+    for (int r = 0; r < model.getBoardHeight(); r++) {
+      for (int c = 0; c < model.getBoardWidth(); c++) {
+        key ^= cellKey(r, c, model.getCell(r, c));
+      }
+    }
+    long hands = 0;
+    for (Player p : Player.values()) {
+      for (SanguineCard card : model.getHand(p)) {
+        hands += handKey(p, card);
+      }
+    }
+    return key ^ hands ^ turnKey(model.getCurrentPlayer(), model.isGameOver() ? 2 : 0);
+  }
+}
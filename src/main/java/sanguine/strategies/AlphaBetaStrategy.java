@@ -0,0 +1,266 @@
+package sanguine.strategies;
+
+import java.util.ArrayList;
+import sanguine.controller.SanguineController;
+import sanguine.model.BasicSanguine;
+import sanguine.model.MoveBuffer;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * Alpha-beta strategy:
+ * - Searches a copy of the game with alpha-beta minimax, one move deeper at a time
+ *   (iterative deepening), until the time budget for the move runs out or the whole rest
+ *   of the game has been searched.
+ * - Plays the best move of the deepest search that finished, trying it first in the next
+ *   search so that later searches prune more.
+ * - Remembers results in an optional {@link TranspositionTable}, so positions reached by
+ *   different move orders, or already searched by an earlier iteration, are not searched
+ *   again, and their best moves are tried first.
+ * - Scores positions by the difference between the players' row scores; a finished game
+ *   scores a win or loss above anything an unfinished one can.
+ * - Searches the real game, so it sees the opponent's hand and the order both decks will
+ *   be drawn in: it plays as if the game had no hidden information. Use
+ *   {@link MonteCarloStrategy}, which samples the hidden cards, for a fair opponent.
+ * - Models that cannot be copied for searching (such as snapshots) are handed to a
+ *   fallback strategy instead.
+ */
+public class AlphaBetaStrategy implements PublisherPlayerAction {
+  // the transposition table size used by default
+  private static final long DEFAULT_TABLE_BYTES = 16L << 20;
+
+  private final ArrayList<SanguineController> listeners;
+  private final long budgetNanos;
+  private final int maxDepth;
+  private final Strategy fallback;
+  private final MoveBuffer[] buffers;
+  private final TranspositionTable table;
+
+  private BasicSanguine game;
+  private long deadline;
+  private long nodes;
+  private boolean aborted;
+  private boolean depthLimited;
+  private SearchStats lastStats = new SearchStats(0, 0, 0);
+
+  /**
+   * Creates an alpha-beta strategy that spends up to the given time on each move, with a
+   * 16 MB transposition table.
+   *
+   * @param budgetMillis the time budget per move, in milliseconds (>0)
+   * @throws IllegalArgumentException if the budget is not positive
+   */
+  public AlphaBetaStrategy(long budgetMillis) {
+    this(budgetMillis, 64, new FillFirst(), new TranspositionTable(DEFAULT_TABLE_BYTES));
+  }
+
+  /**
+   * Creates an alpha-beta strategy without a transposition table.
+   *
+   * @param budgetMillis the time budget per move, in milliseconds (>0)
+   * @param maxDepth the deepest search to try, in moves (>0)
+   * @param fallback the strategy for models that cannot be searched
+   * @throws IllegalArgumentException if the budget or depth is not positive, or the fallback
+   *     is null
+   */
+  public AlphaBetaStrategy(long budgetMillis, int maxDepth, Strategy fallback) {
+    this(budgetMillis, maxDepth, fallback, null);
+  }
+
+  /**
+   * Creates an alpha-beta strategy. The transposition table is kept between moves, and may
+   * be shared with other strategies.
+   *
+   * @param budgetMillis the time budget per move, in milliseconds (>0)
+   * @param maxDepth the deepest search to try, in moves (>0)
+   * @param fallback the strategy for models that cannot be searched
+   * @param table the transposition table to use, or null for none
+   * @throws IllegalArgumentException if the budget or depth is not positive, or the fallback
+   *     is null
+   */
+  public AlphaBetaStrategy(long budgetMillis, int maxDepth, Strategy fallback,
+                           TranspositionTable table) {
+    if (budgetMillis <= 0) {
+      throw new IllegalArgumentException("budget must be positive");
+    }
+    if (maxDepth <= 0) {
+      throw new IllegalArgumentException("depth must be positive");
+    }
+    if (fallback == null) {
+      throw new IllegalArgumentException("fallback cannot be null");
+    }
+    this.listeners = new ArrayList<>();
+    this.budgetNanos = budgetMillis * 1_000_000L;
+    this.maxDepth = maxDepth;
+    this.fallback = fallback;
+    this.table = table;
+    this.buffers = new MoveBuffer[maxDepth + 1];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = new MoveBuffer();
+    }
+  }
+
+  /**
+   * Returns the depth reached and nodes searched when choosing the last move. Both are 0
+   * if the last move came from the fallback strategy.
+   *
+   * @return the statistics of the last search
+   */
+  public SearchStats getLastStats() {
+    return lastStats;
+  }
+
+  @Override
+  public Move chooseMove(ReadOnlySanguineModel model, Player player) {
+    long start = System.nanoTime();
+    if (model.isGameOver() || model.getCurrentPlayer() != player) {
+      lastStats = new SearchStats(0, 0, 0);
+      return fallback.chooseMove(model, player);
+    }
+    BasicSanguine copy = SearchGames.copyOf(model);
+    if (copy == null) {
+      lastStats = new SearchStats(0, 0, 0);
+      return fallback.chooseMove(model, player);
+    }
+
+    game = copy;
+    deadline = start + budgetNanos;
+    nodes = 0;
+    aborted = false;
+    int[] rootMoves = rootMoves(player);
+    int best = rootMoves[0];
+    int depthReached = 0;
+    try {
+      for (int depth = 1; depth <= maxDepth; depth++) {
+        depthLimited = false;
+        int bestIndex = searchRoot(rootMoves, depth);
+        if (aborted) {
+          break;
+        }
+        best = rootMoves[bestIndex];
+        depthReached = depth;
+        // try the best move first next time
+        System.arraycopy(rootMoves, 0, rootMoves, 1, bestIndex);
+        rootMoves[0] = best;
+        if (!depthLimited) {
+          // the whole game was searched, so deeper searches would find the same
+          break;
+        }
+      }
+    } finally {
+      game = null;
+    }
+    lastStats = new SearchStats(depthReached, nodes, System.nanoTime() - start);
+    return SearchGames.toMove(best);
+  }
+
+  /**
+   * Returns the moves the player can make at the root, ending with a pass.
+   */
+  private int[] rootMoves(Player player) {
+    MoveBuffer buffer = buffers[0];
+    game.legalMoves(player, buffer);
+    int[] moves = new int[buffer.size() + 1];
+    for (int i = 0; i < buffer.size(); i++) {
+      moves[i] = buffer.get(i);
+    }
+    moves[buffer.size()] = SearchGames.PASS;
+    return moves;
+  }
+
+  /**
+   * Searches every root move to the given depth and returns the index of the best.
+   */
+  private int searchRoot(int[] moves, int depth) {
+    int bestIndex = 0;
+    int alpha = -SearchGames.INFINITY;
+    for (int i = 0; i < moves.length; i++) {
+      long undo = SearchGames.make(game, moves[i]);
+      int score = -search(depth - 1, -SearchGames.INFINITY, -alpha, 1);
+      game.unmakeMove(undo);
+      if (aborted) {
+        return bestIndex;
+      }
+      if (score > alpha) {
+        alpha = score;
+        bestIndex = i;
+      }
+    }
+    return bestIndex;
+  }
+
+  /**
+   * Returns the score of the position for the player to move, searched to the given depth
+   * (negamax form of alpha-beta). Results are looked up in and saved to the transposition
+   * table, if there is one, and the best move it remembers is tried first.
+   */
+  private int search(int depth, int alpha, int beta, int ply) {
+    nodes++;
+    if (nodes % SearchGames.CLOCK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+      aborted = true;
+      return 0;
+    }
+    Player toMove = game.getCurrentPlayer();
+    if (game.isGameOver()) {
+      return SearchGames.terminalScore(game);
+    }
+    if (depth == 0) {
+      depthLimited = true;
+      return SearchGames.margin(game, toMove);
+    }
+
+    long key = 0;
+    int hashMove = SearchGames.NO_MOVE;
+    if (table != null) {
+      key = game.getZobristKey();
+      long entry = table.probe(key);
+      if (SearchGames.settles(entry, depth, alpha, beta)) {
+        // a result found without reaching the end of the game still stops short of it
+        depthLimited |= TranspositionTable.depth(entry) < TranspositionTable.MAX_DEPTH;
+        return TranspositionTable.score(entry);
+      }
+      hashMove = SearchGames.hashMove(entry);
+    }
+
+    MoveBuffer moves = buffers[ply];
+    game.legalMoves(toMove, moves);
+    int count = moves.size() + 1;
+    int first = hashMove == SearchGames.NO_MOVE ? -1 : SearchGames.indexOf(moves, hashMove);
+    int alphaBefore = alpha;
+    boolean limitedBefore = depthLimited;
+    depthLimited = false;
+    int best = -SearchGames.INFINITY;
+    int bestMove = SearchGames.PASS;
+    for (int i = 0; i < count; i++) {
+      int move = SearchGames.nthMove(moves, first, i);
+      long undo = SearchGames.make(game, move);
+      int score = -search(depth - 1, -beta, -alpha, ply + 1);
+      game.unmakeMove(undo);
+      if (aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = move;
+        if (score > alpha) {
+          alpha = score;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+
+    boolean solved = !depthLimited;
+    depthLimited |= limitedBefore;
+    if (table != null) {
+      SearchGames.store(table, key, depth, solved, alphaBefore, beta, best, bestMove);
+    }
+    return best;
+  }
+
+  @Override
+  public void addListener(SanguineController controller) {
+    this.listeners.add(controller);
+  }
+}
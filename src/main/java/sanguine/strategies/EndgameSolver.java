@@ -0,0 +1,253 @@
+package sanguine.strategies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import sanguine.controller.SanguineController;
+import sanguine.model.BasicSanguine;
+import sanguine.model.MoveBuffer;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * Endgame solver strategy:
+ * - Until few enough cells are left without a card, hands every move to another strategy.
+ * - From then on, searches the rest of the game on a copy of the game, to the end (both
+ *   players passing) on every line, with alpha-beta pruning and a transposition table, and
+ *   plays the move that is provably best: a win before a tie before a loss, and among those
+ *   the best final score difference.
+ * - If the search does not finish within its time budget, or the model cannot be copied
+ *   for searching, the other strategy's move is played instead.
+ * - "Provably best" is with every card known: like {@link AlphaBetaStrategy}, it searches
+ *   the real game, including the opponent's hand and the order both decks will be drawn
+ *   in.
+ *
+ * <p>This makes it the tail of other strategies: {@code new EndgameSolver(new
+ * AlphaBetaStrategy(1000), 8, 1000)} plays alpha-beta until eight cells are left open, then
+ * plays perfectly.
+ */
+public class EndgameSolver implements PublisherPlayerAction {
+  private static final long TABLE_BYTES = 16L << 20;
+
+  private final ArrayList<SanguineController> listeners;
+  private final Strategy delegate;
+  private final int threshold;
+  private final long budgetNanos;
+  private final TranspositionTable table;
+
+  private BasicSanguine game;
+  private MoveBuffer[] buffers = new MoveBuffer[0];
+  private long deadline;
+  private long nodes;
+  private int maxPly;
+  private boolean aborted;
+  private boolean lastSolved;
+  private SearchStats lastStats = new SearchStats(0, 0, 0);
+
+  /**
+   * Creates an endgame solver with a 16 MB transposition table.
+   *
+   * @param delegate the strategy to use until the endgame, or if solving fails
+   * @param threshold solve once at most this many cells are left without a card (>0)
+   * @param budgetMillis the most time to spend solving a move, in milliseconds (>0)
+   * @throws IllegalArgumentException if the delegate is null, or the threshold or budget
+   *     is not positive
+   */
+  public EndgameSolver(Strategy delegate, int threshold, long budgetMillis) {
+    this(delegate, threshold, budgetMillis, new TranspositionTable(TABLE_BYTES));
+  }
+
+  /**
+   * Creates an endgame solver.
+   *
+   * @param delegate the strategy to use until the endgame, or if solving fails
+   * @param threshold solve once at most this many cells are left without a card (>0)
+   * @param budgetMillis the most time to spend solving a move, in milliseconds (>0)
+   * @param table the transposition table to solve with; only results that reach the end of
+   *     the game are stored in it
+   * @throws IllegalArgumentException if the delegate or table is null, or the threshold or
+   *     budget is not positive
+   */
+  public EndgameSolver(Strategy delegate, int threshold, long budgetMillis,
+                       TranspositionTable table) {
+    if (delegate == null || table == null) {
+      throw new IllegalArgumentException("delegate and table cannot be null");
+    }
+    if (threshold <= 0) {
+      throw new IllegalArgumentException("threshold must be positive");
+    }
+    if (budgetMillis <= 0) {
+      throw new IllegalArgumentException("budget must be positive");
+    }
+    this.listeners = new ArrayList<>();
+    this.delegate = delegate;
+    this.threshold = threshold;
+    this.budgetNanos = budgetMillis * 1_000_000L;
+    this.table = table;
+  }
+
+  /**
+   * Returns whether the last move was solved exactly, rather than chosen by the delegate.
+   *
+   * @return true if the last move is provably best
+   */
+  public boolean wasLastMoveSolved() {
+    return lastSolved;
+  }
+
+  /**
+   * Returns the longest line searched, in moves, and the nodes searched when solving the
+   * last move. Both are 0 if the last move came from the delegate without solving.
+   *
+   * @return the statistics of the last search
+   */
+  public SearchStats getLastStats() {
+    return lastStats;
+  }
+
+  /**
+   * Returns the number of cells on the board that hold no card.
+   *
+   * @param model the game to look at
+   * @return the number of open cells
+   */
+  public static int openCells(ReadOnlySanguineModel model) {
+    int open = 0;
+    for (int row = 0; row < model.getBoardHeight(); row++) {
+      for (int col = 0; col < model.getBoardWidth(); col++) {
+        if (model.cardAt(row, col) == null) {
+          open++;
+        }
+      }
+    }
+    return open;
+  }
+
+  @Override
+  public Move chooseMove(ReadOnlySanguineModel model, Player player) {
+    long start = System.nanoTime();
+    lastSolved = false;
+    lastStats = new SearchStats(0, 0, 0);
+    if (model.isGameOver() || model.getCurrentPlayer() != player) {
+      return delegate.chooseMove(model, player);
+    }
+    int open = openCells(model);
+    if (open > threshold) {
+      return delegate.chooseMove(model, player);
+    }
+    BasicSanguine copy = SearchGames.copyOf(model);
+    if (copy == null) {
+      return delegate.chooseMove(model, player);
+    }
+
+    // every move but a pass fills a cell, and two passes in a row end the game
+    int longest = 2 * open + 2;
+    if (buffers.length <= longest) {
+      int old = buffers.length;
+      buffers = Arrays.copyOf(buffers, longest + 1);
+      for (int i = old; i < buffers.length; i++) {
+        buffers[i] = new MoveBuffer();
+      }
+    }
+    game = copy;
+    deadline = start + budgetNanos;
+    nodes = 0;
+    maxPly = 0;
+    aborted = false;
+    int best;
+    try {
+      best = solveRoot(player);
+    } finally {
+      game = null;
+    }
+    lastStats = new SearchStats(maxPly, nodes, System.nanoTime() - start);
+    if (aborted) {
+      return delegate.chooseMove(model, player);
+    }
+    lastSolved = true;
+    return SearchGames.toMove(best);
+  }
+
+  /**
+   * Solves every root move and returns the best.
+   */
+  private int solveRoot(Player player) {
+    MoveBuffer moves = buffers[0];
+    game.legalMoves(player, moves);
+    int best = SearchGames.PASS;
+    int alpha = -SearchGames.INFINITY;
+    for (int i = 0; i <= moves.size(); i++) {
+      int move = i < moves.size() ? moves.get(i) : SearchGames.PASS;
+      long undo = SearchGames.make(game, move);
+      int score = -solve(-SearchGames.INFINITY, -alpha, 1);
+      game.unmakeMove(undo);
+      if (aborted) {
+        return best;
+      }
+      if (score > alpha) {
+        alpha = score;
+        best = move;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Returns the exact value of the position for the player to move, or a bound on it
+   * outside the alpha-beta window.
+   */
+  private int solve(int alpha, int beta, int ply) {
+    nodes++;
+    maxPly = Math.max(maxPly, ply);
+    if (nodes % SearchGames.CLOCK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+      aborted = true;
+      return 0;
+    }
+    if (game.isGameOver()) {
+      return SearchGames.terminalScore(game);
+    }
+
+    long key = game.getZobristKey();
+    long entry = table.probe(key);
+    // only solved entries hold here, whatever depth other searches stored
+    if (SearchGames.settles(entry, TranspositionTable.MAX_DEPTH, alpha, beta)) {
+      return TranspositionTable.score(entry);
+    }
+    int hashMove = SearchGames.hashMove(entry);
+
+    MoveBuffer moves = buffers[ply];
+    game.legalMoves(game.getCurrentPlayer(), moves);
+    int count = moves.size() + 1;
+    int first = hashMove == SearchGames.NO_MOVE ? -1 : SearchGames.indexOf(moves, hashMove);
+    int alphaBefore = alpha;
+    int best = -SearchGames.INFINITY;
+    int bestMove = SearchGames.PASS;
+    for (int i = 0; i < count; i++) {
+      int move = SearchGames.nthMove(moves, first, i);
+      long undo = SearchGames.make(game, move);
+      int score = -solve(-beta, -alpha, ply + 1);
+      game.unmakeMove(undo);
+      if (aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = move;
+        if (score > alpha) {
+          alpha = score;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+
+    SearchGames.store(table, key, TranspositionTable.MAX_DEPTH, true, alphaBefore, beta, best,
+        bestMove);
+    return best;
+  }
+
+  @Override
+  public void addListener(SanguineController controller) {
+    this.listeners.add(controller);
+  }
+}
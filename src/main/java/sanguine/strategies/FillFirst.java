@@ -24,7 +24,7 @@ public class FillFirst implements PublisherPlayerAction {
 
   @Override
   public Move chooseMove(ReadOnlySanguineModel model, Player player) {
-    int handSize = model.getHand(player).size();
+    int handSize = model.handSize(player);
 
     for (int row = 0; row < model.getBoardHeight(); row++) {
       int startCol = player == Player.RED ? 0 : model.getBoardWidth() - 1;
@@ -26,16 +26,24 @@ public class MaximizeRowScore implements PublisherPlayerAction {
 
   @Override
   public Move chooseMove(ReadOnlySanguineModel model, Player player) {
-    int handSize = model.getHand(player).size();
+    int handSize = model.handSize(player);
+    Player opponent = player.opponent();
+    int startCol = player == Player.RED ? 0 : model.getBoardWidth() - 1;
+    int endCol = player == Player.RED ? model.getBoardWidth() : -1;
+    int step = player == Player.RED ? 1 : -1;
 
     for (int row = 0; row < model.getBoardHeight(); row++) {
-      int startCol = player == Player.RED ? 0 : model.getBoardWidth() - 1;
-      int endCol = player == Player.RED ? model.getBoardWidth() : -1;
-      int step = player == Player.RED ? 1 : -1;
-
+      int mine = model.getScore(row, player);
+      int theirs = model.getScore(row, opponent);
+      if (mine > theirs) {
+        continue;
+      }
+      // a placed card adds exactly its value to the row, so the only score that changes is
+      // ours, by a delta known without trying the move
       for (int col = startCol; col != endCol; col += step) {
         for (int card = 0; card < handSize; card++) {
-          if (model.canPlayCard(card, row, col)) {
+          if (mine + model.handCard(player, card).getValue() > theirs
+              && model.canPlayCard(card, row, col)) {
             return new Move(row, col, card);
           }
         }
@@ -0,0 +1,326 @@
+package sanguine.strategies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import sanguine.controller.SanguineController;
+import sanguine.model.BasicSanguine;
+import sanguine.model.MoveBuffer;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * Monte Carlo tree search strategy:
+ * - Grows several search trees at once on a fork-join pool (root parallelism), each on its
+ *   own copy of the game, until the time budget for the move runs out.
+ * - Does not peek at cards the player cannot see: each tree's copy deals the opponent's
+ *   hand and both decks' undrawn cards again at random
+ *   ({@link BasicSanguine#determinize}), so the trees together sample the possible deals.
+ * - Each tree picks moves with UCT, adds one new move per iteration and plays the game out
+ *   to the end with random moves, making and unmaking moves on its copy rather than
+ *   building new games.
+ * - Plays the root move visited most across all trees, so strength grows with the number
+ *   of cores and the time allowed.
+ * - Models that cannot be copied for searching (such as snapshots) are handed to a
+ *   fallback strategy instead.
+ */
+public class MonteCarloStrategy implements PublisherPlayerAction {
+  // the UCT exploration constant, sqrt(2)
+  private static final double EXPLORATION = 1.4142135623730951;
+
+  private final ArrayList<SanguineController> listeners;
+  private final long budgetNanos;
+  private final ForkJoinPool pool;
+  private final int trees;
+  private final SplittableRandom random;
+  private final Strategy fallback;
+  private SearchStats lastStats = new SearchStats(0, 0, 0);
+
+  /**
+   * Creates a Monte Carlo strategy that spends up to the given time on each move, growing
+   * one tree per thread of the common fork-join pool.
+   *
+   * @param budgetMillis the time budget per move, in milliseconds (>0)
+   * @throws IllegalArgumentException if the budget is not positive
+   */
+  public MonteCarloStrategy(long budgetMillis) {
+    this(budgetMillis, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism(),
+        System.nanoTime(), new FillFirst());
+  }
+
+  /**
+   * Creates a Monte Carlo strategy.
+   *
+   * @param budgetMillis the time budget per move, in milliseconds (>0)
+   * @param pool the pool to grow the trees on
+   * @param trees how many trees to grow at once (>0)
+   * @param seed the seed for the random play-outs
+   * @param fallback the strategy for models that cannot be searched
+   * @throws IllegalArgumentException if the budget or number of trees is not positive, or
+   *     the pool or fallback is null
+   */
+  public MonteCarloStrategy(long budgetMillis, ForkJoinPool pool, int trees, long seed,
+                            Strategy fallback) {
+    if (budgetMillis <= 0) {
+      throw new IllegalArgumentException("budget must be positive");
+    }
+    if (trees <= 0) {
+      throw new IllegalArgumentException("trees must be positive");
+    }
+    if (pool == null || fallback == null) {
+      throw new IllegalArgumentException("pool and fallback cannot be null");
+    }
+    this.listeners = new ArrayList<>();
+    this.budgetNanos = budgetMillis * 1_000_000L;
+    this.pool = pool;
+    this.trees = trees;
+    this.random = new SplittableRandom(seed);
+    this.fallback = fallback;
+  }
+
+  /**
+   * Returns the deepest tree depth reached and the number of play-outs run, over all
+   * trees, when choosing the last move. Both are 0 if the last move came from the fallback
+   * strategy.
+   *
+   * @return the statistics of the last search
+   */
+  public SearchStats getLastStats() {
+    return lastStats;
+  }
+
+  @Override
+  public Move chooseMove(ReadOnlySanguineModel model, Player player) {
+    long start = System.nanoTime();
+    BasicSanguine game = model.isGameOver() || model.getCurrentPlayer() != player
+        ? null : SearchGames.copyOf(model);
+    if (game == null) {
+      lastStats = new SearchStats(0, 0, 0);
+      return fallback.chooseMove(model, player);
+    }
+
+    MoveBuffer buffer = new MoveBuffer();
+    game.legalMoves(player, buffer);
+    int[] rootMoves = new int[buffer.size() + 1];
+    for (int i = 0; i < buffer.size(); i++) {
+      rootMoves[i] = buffer.get(i);
+    }
+    rootMoves[buffer.size()] = SearchGames.PASS;
+
+    long deadline = start + budgetNanos;
+    // deal a copy of the game for every tree before any of them starts playing on it
+    List<Tree> searches = new ArrayList<>(trees);
+    for (int i = 0; i < trees; i++) {
+      SplittableRandom treeRandom = random.split();
+      searches.add(new Tree(game.determinize(player, treeRandom), rootMoves, treeRandom,
+          deadline));
+    }
+    List<ForkJoinTask<Tree>> tasks = new ArrayList<>(trees);
+    for (Tree tree : searches) {
+      tasks.add(pool.submit(tree));
+    }
+
+    long[] visits = new long[rootMoves.length];
+    long playouts = 0;
+    int depth = 0;
+    for (ForkJoinTask<Tree> task : tasks) {
+      Tree tree = task.join();
+      for (int i = 0; i < rootMoves.length; i++) {
+        Node child = tree.root.childFor(i);
+        visits[i] += child == null ? 0 : child.visits;
+      }
+      playouts += tree.playouts;
+      depth = Math.max(depth, tree.maxDepth);
+    }
+
+    int best = 0;
+    for (int i = 1; i < rootMoves.length; i++) {
+      if (visits[i] > visits[best]) {
+        best = i;
+      }
+    }
+    lastStats = new SearchStats(depth, playouts, System.nanoTime() - start);
+    return SearchGames.toMove(rootMoves[best]);
+  }
+
+  @Override
+  public void addListener(SanguineController controller) {
+    this.listeners.add(controller);
+  }
+
+  /**
+   * A position in a search tree, reached by a move from its parent.
+   */
+  private static final class Node {
+    private final Node parent;
+    // the index of the move that led here among the parent's moves
+    private final int moveIndex;
+    // the player who made the move that led here
+    private final Player mover;
+    // the moves from this position, in the order legalMoves lists them, ending with a pass;
+    // null until the node is first expanded
+    private int[] moves;
+    private Node[] children;
+    private int untried;
+    private long visits;
+    // the sum of the play-out results for the mover: 1 for a win, 0.5 for a tie
+    private double wins;
+
+    private Node(Node parent, int moveIndex, Player mover) {
+      this.parent = parent;
+      this.moveIndex = moveIndex;
+      this.mover = mover;
+    }
+
+    private Node childFor(int index) {
+      return children == null ? null : children[index];
+    }
+
+    /**
+     * Returns the child with the best UCT value. Every move must have been tried.
+     */
+    private Node select() {
+      double logVisits = Math.log(visits);
+      Node best = null;
+      double bestValue = Double.NEGATIVE_INFINITY;
+      for (Node child : children) {
+        double value = child.wins / child.visits
+            + EXPLORATION * Math.sqrt(logVisits / child.visits);
+        if (value > bestValue) {
+          bestValue = value;
+          best = child;
+        }
+      }
+      return best;
+    }
+  }
+
+  /**
+   * One search tree, grown on its own game copy by a single task that never forks.
+   */
+  private static final class Tree implements Callable<Tree> {
+    private final BasicSanguine game;
+    private final SplittableRandom random;
+    private final long deadline;
+    private final Node root;
+    private final MoveBuffer buffer = new MoveBuffer();
+    private long[] undo = new long[64];
+    private int undoCount;
+    private long playouts;
+    private int maxDepth;
+
+    private Tree(BasicSanguine game, int[] rootMoves, SplittableRandom random,
+                 long deadline) {
+      this.game = game;
+      this.random = random;
+      this.deadline = deadline;
+      this.root = new Node(null, -1, game.getCurrentPlayer().opponent());
+      root.moves = rootMoves;
+      root.children = new Node[rootMoves.length];
+      root.untried = rootMoves.length;
+    }
+
+    @Override
+    public Tree call() {
+      // always run at least one play-out so every tree has something to report
+      do {
+        iterate();
+        playouts++;
+      } while (System.nanoTime() - deadline < 0);
+      return this;
+    }
+
+    /**
+     * Runs one iteration: select down the tree, expand one move, play out and back up the
+     * result, then unmake every move made.
+     */
+    private void iterate() {
+      Node node = root;
+      int depth = 0;
+      while (node.moves != null && node.untried == 0 && node.children.length > 0) {
+        node = node.select();
+        make(node.parent.moves[node.moveIndex]);
+        depth++;
+      }
+      if (!game.isGameOver()) {
+        if (node.moves == null) {
+          expand(node);
+        }
+        node = addChild(node);
+        depth++;
+      }
+      maxDepth = Math.max(maxDepth, depth);
+
+      int treeMoves = undoCount;
+      playOut();
+      Player winner = game.getWinner();
+      while (undoCount > treeMoves) {
+        game.unmakeMove(undo[--undoCount]);
+      }
+      for (Node n = node; n != null; n = n.parent) {
+        n.visits++;
+        n.wins += winner == null ? 0.5 : winner == n.mover ? 1 : 0;
+      }
+      while (undoCount > 0) {
+        game.unmakeMove(undo[--undoCount]);
+      }
+    }
+
+    /**
+     * Lists the moves from the node's position, which is the game's current position.
+     */
+    private void expand(Node node) {
+      game.legalMoves(game.getCurrentPlayer(), buffer);
+      node.moves = new int[buffer.size() + 1];
+      for (int i = 0; i < buffer.size(); i++) {
+        node.moves[i] = buffer.get(i);
+      }
+      node.moves[buffer.size()] = SearchGames.PASS;
+      node.children = new Node[node.moves.length];
+      node.untried = node.moves.length;
+    }
+
+    /**
+     * Makes a random untried move from the node and returns its new child.
+     */
+    private Node addChild(Node node) {
+      int pick = random.nextInt(node.untried);
+      int index = -1;
+      for (int i = 0; i < node.children.length; i++) {
+        if (node.children[i] == null && pick-- == 0) {
+          index = i;
+          break;
+        }
+      }
+      Player mover = game.getCurrentPlayer();
+      make(node.moves[index]);
+      Node child = new Node(node, index, mover);
+      node.children[index] = child;
+      node.untried--;
+      return child;
+    }
+
+    /**
+     * Plays random moves until the game is over, passing only when there is nothing to
+     * play.
+     */
+    private void playOut() {
+      while (!game.isGameOver()) {
+        game.legalMoves(game.getCurrentPlayer(), buffer);
+        int count = buffer.size();
+        make(count == 0 ? SearchGames.PASS : buffer.get(random.nextInt(count)));
+      }
+    }
+
+    private void make(int move) {
+      if (undoCount == undo.length) {
+        undo = Arrays.copyOf(undo, undoCount * 2);
+      }
+      undo[undoCount++] = SearchGames.make(game, move);
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package sanguine.strategies;
+
+import sanguine.model.BasicSanguine;
+import sanguine.model.ConcurrentSanguine;
+import sanguine.model.MoveBuffer;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * Helpers for strategies that search ahead by making and unmaking moves on a copy of the
+ * game. Moves are ints encoded as in {@link MoveBuffer}, with {@link #PASS} for a pass.
+ * Also holds what the alpha-beta searches share: scoring, move ordering and the use of a
+ * {@link TranspositionTable}.
+ */
+final class SearchGames {
+
+  /**
+   * Stands for a pass among encoded moves, which are never negative.
+   */
+  static final int PASS = -1;
+
+  /**
+   * The score of a won game before its margin is added; more than any margin can be.
+   */
+  static final int WIN = 1_000_000;
+
+  /**
+   * A score beyond every real one, for opening alpha-beta windows.
+   */
+  static final int INFINITY = Integer.MAX_VALUE;
+
+  /**
+   * How many nodes are searched between checks of the clock.
+   */
+  static final int CLOCK_INTERVAL = 1024;
+
+  /**
+   * Stands for no remembered move; encoded moves are never negative.
+   */
+  static final int NO_MOVE = Integer.MIN_VALUE;
+
+  private SearchGames() {}
+
+  /**
+   * Returns a copy of the game behind the model that can be searched, or null if the model
+   * does not give access to one (for example a snapshot, which does not know the order the
+   * decks will be drawn in).
+   *
+   * @param model the model to copy
+   * @return a searchable copy of the game, or null
+   */
+  static BasicSanguine copyOf(ReadOnlySanguineModel model) {
+    if (model instanceof BasicSanguine game) {
+      return game.copy();
+    }
+    if (model instanceof ConcurrentSanguine game) {
+      return game.copyGame();
+    }
+    return null;
+  }
+
+  /**
+   * Returns the move an encoded move stands for.
+   */
+  static Move toMove(int move) {
+    if (move == PASS) {
+      return new Move(true);
+    }
+    return new Move(MoveBuffer.row(move), MoveBuffer.col(move), MoveBuffer.cardIndex(move));
+  }
+
+  /**
+   * Makes an encoded move for the current player and returns its undo record.
+   */
+  static long make(BasicSanguine game, int move) {
+    if (move == PASS) {
+      return game.makePass();
+    }
+    return game.makeMove(MoveBuffer.cardIndex(move), MoveBuffer.row(move),
+        MoveBuffer.col(move));
+  }
+
+  /**
+   * Returns the difference between the player's total score and their opponent's.
+   */
+  static int margin(BasicSanguine game, Player player) {
+    return game.getTotalScore(player) - game.getTotalScore(player.opponent());
+  }
+
+  /**
+   * Returns the score of a finished game for the player to move: a win or loss outweighs
+   * any difference in scores, and among wins the bigger margin is better.
+   */
+  static int terminalScore(BasicSanguine game) {
+    int margin = margin(game, game.getCurrentPlayer());
+    return margin > 0 ? WIN + margin : margin < 0 ? -WIN + margin : 0;
+  }
+
+  /**
+   * Returns the index of the move among the moves, the number of moves for a pass, or -1
+   * if it is not there.
+   */
+  static int indexOf(MoveBuffer moves, int move) {
+    if (move == PASS) {
+      return moves.size();
+    }
+    for (int i = 0; i < moves.size(); i++) {
+      if (moves.get(i) == move) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the i-th move to try among the moves followed by a pass: the move at index
+   * first, unless it is -1, and then the rest in order.
+   */
+  static int nthMove(MoveBuffer moves, int first, int i) {
+    int index = first < 0 || i > first ? i : i == 0 ? first : i - 1;
+    return index < moves.size() ? moves.get(index) : PASS;
+  }
+
+  /**
+   * Returns the move a table entry remembers, or {@link #NO_MOVE} for a miss.
+   */
+  static int hashMove(long entry) {
+    return entry == TranspositionTable.MISS ? NO_MOVE : TranspositionTable.move(entry);
+  }
+
+  /**
+   * Returns whether a table entry settles a search to the given depth with the given
+   * window, so its score can be returned without searching: the entry is solved or at
+   * least as deep, and its score is exact or a bound that falls outside the window.
+   */
+  static boolean settles(long entry, int depth, int alpha, int beta) {
+    if (entry == TranspositionTable.MISS) {
+      return false;
+    }
+    int stored = TranspositionTable.depth(entry);
+    if (stored != TranspositionTable.MAX_DEPTH && stored < depth) {
+      return false;
+    }
+    int score = TranspositionTable.score(entry);
+    int bound = TranspositionTable.bound(entry);
+    return bound == TranspositionTable.EXACT
+        || bound == TranspositionTable.LOWER && score >= beta
+        || bound == TranspositionTable.UPPER && score <= alpha;
+  }
+
+  /**
+   * Stores the result of searching a position with the window alpha..beta. The score is a
+   * bound if it fell outside the window, and only a solved result (one that reached the
+   * end of the game on every line) is stored as {@link TranspositionTable#MAX_DEPTH} deep.
+   */
+  static void store(TranspositionTable table, long key, int depth, boolean solved,
+                    int alpha, int beta, int score, int move) {
+    int bound = score <= alpha ? TranspositionTable.UPPER
+        : score >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+    // a depth-limited result must not pass for a solved one, however deep it went
+    int stored = solved ? TranspositionTable.MAX_DEPTH
+        : Math.min(depth, TranspositionTable.MAX_DEPTH - 1);
+    table.store(key, stored, bound, score, move);
+  }
+}
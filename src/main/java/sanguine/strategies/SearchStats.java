@@ -0,0 +1,16 @@
+package sanguine.strategies;
+
+/**
+ * What a search-based strategy did to choose its last move.
+ *
+ * @param depth the deepest search that was completed, in moves
+ * @param nodes the number of game states visited
+ * @param elapsedNanos how long the search took, in nanoseconds
+ */
+public record SearchStats(int depth, long nodes, long elapsedNanos) {
+
+  @Override
+  public String toString() {
+    return String.format("depth %d, %d nodes in %.1f ms", depth, nodes, elapsedNanos / 1e6);
+  }
+}
@@ -0,0 +1,239 @@
+package sanguine.strategies;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A fixed-size table of search results keyed by the game's Zobrist key (see
+ * {@link sanguine.model.ReadOnlySanguineModel#getZobristKey()}), kept off the Java heap in
+ * direct byte buffers so that it can be made very large without adding to garbage
+ * collection work.
+ *
+ * <p>Each entry is two longs: the key (xor'ed with the data) and the data, which packs the
+ * search depth, the kind of bound the score is, the score and the best move found. Entries
+ * live in buckets of two: the first slot keeps the deepest result seen for its bucket and
+ * the second is always overwritten, so deep results survive while recent shallow ones still
+ * have somewhere to go.
+ *
+ * <p>The table may be shared by searches on several threads without locking: a write torn
+ * by another thread fails the key check and reads as a miss.
+ */
+public final class TranspositionTable {
+
+  /**
+   * What {@link #probe(long)} returns when the table has no entry for a key. No stored entry
+   * is ever equal to it.
+   */
+  public static final long MISS = 0;
+
+  /**
+   * The stored score is the exact value of the position.
+   */
+  public static final int EXACT = 1;
+
+  /**
+   * The stored score is a lower bound: the search failed high.
+   */
+  public static final int LOWER = 2;
+
+  /**
+   * The stored score is an upper bound: the search failed low.
+   */
+  public static final int UPPER = 3;
+
+  /**
+   * The depth that marks an entry as solved: the search reached the end of the game on
+   * every line, so its result holds at any depth. Only solved results are stored with this
+   * depth; deeper ordinary searches are recorded as {@code MAX_DEPTH - 1}.
+   */
+  public static final int MAX_DEPTH = 63;
+
+  /**
+   * The smallest score an entry can hold.
+   */
+  public static final int MIN_SCORE = -(1 << 23);
+
+  /**
+   * The largest score an entry can hold.
+   */
+  public static final int MAX_SCORE = (1 << 23) - 1;
+
+  private static final int ENTRY_BYTES = 16;
+  private static final int BUCKET_BYTES = 2 * ENTRY_BYTES;
+  private static final int BUCKET_SHIFT = 5;
+  // the largest chunk, in buckets, that fits in one byte buffer
+  private static final int MAX_CHUNK_SHIFT = 30 - BUCKET_SHIFT;
+
+  private final ByteBuffer[] chunks;
+  private final long bucketMask;
+  private final int chunkShift;
+  private final long chunkMask;
+
+  /**
+   * Creates a table using at most the given number of bytes, rounded down to a power of
+   * two.
+   *
+   * @param bytes the most memory to use (at least 32)
+   * @throws IllegalArgumentException if the size is less than one bucket
+   */
+  public TranspositionTable(long bytes) {
+    if (bytes < BUCKET_BYTES) {
+      throw new IllegalArgumentException("table must hold at least one bucket");
+    }
+    long buckets = Long.highestOneBit(bytes / BUCKET_BYTES);
+    int bucketBits = Long.numberOfTrailingZeros(buckets);
+    this.bucketMask = buckets - 1;
+    this.chunkShift = Math.min(bucketBits, MAX_CHUNK_SHIFT);
+    this.chunkMask = (1L << chunkShift) - 1;
+    int chunkCount = (int) (buckets >>> chunkShift);
+    this.chunks = new ByteBuffer[chunkCount];
+    for (int i = 0; i < chunkCount; i++) {
+      chunks[i] = ByteBuffer.allocateDirect((1 << chunkShift) * BUCKET_BYTES)
+          .order(ByteOrder.nativeOrder());
+    }
+  }
+
+  /**
+   * Returns how many entries the table holds.
+   *
+   * @return the number of entries
+   */
+  public long capacity() {
+    return (bucketMask + 1) * 2;
+  }
+
+  /**
+   * Returns how many bytes of memory the table uses.
+   *
+   * @return the size of the table in bytes
+   */
+  public long sizeBytes() {
+    return (bucketMask + 1) * BUCKET_BYTES;
+  }
+
+  /**
+   * Returns the data stored for the key, to be read with {@link #depth(long)},
+   * {@link #bound(long)}, {@link #score(long)} and {@link #move(long)}, or {@link #MISS}.
+   *
+   * @param key the position's key
+   * @return the packed entry, or {@link #MISS}
+   */
+  public long probe(long key) {
+    ByteBuffer chunk = chunk(key);
+    int offset = offset(key);
+    for (int slot = 0; slot < BUCKET_BYTES; slot += ENTRY_BYTES) {
+      long data = chunk.getLong(offset + slot + 8);
+      if (data != MISS && (chunk.getLong(offset + slot) ^ data) == key) {
+        return data;
+      }
+    }
+    return MISS;
+  }
+
+  /**
+   * Stores a search result for the key. The result replaces the bucket's deep slot if it is
+   * at least as deep as what is there (or is for the same key), and otherwise goes in the
+   * bucket's other slot.
+   *
+   * @param key the position's key
+   * @param depth how deep the position was searched, capped at {@code MAX_DEPTH - 1}, or
+   *     {@link #MAX_DEPTH} if the result is solved
+   * @param bound {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+   * @param score the score found, clamped to {@link #MIN_SCORE}..{@link #MAX_SCORE}
+   * @param move the best move found, encoded as in {@link sanguine.model.MoveBuffer}, or -1
+   *     for a pass
+   * @throws IllegalArgumentException if the depth is negative or the bound is not one of the
+   *     three kinds
+   */
+  public void store(long key, int depth, int bound, int score, int move) {
+    if (depth < 0) {
+      throw new IllegalArgumentException("depth cannot be negative");
+    }
+    if (bound < EXACT || bound > UPPER) {
+      throw new IllegalArgumentException("invalid bound");
+    }
+    // only a solved result may claim MAX_DEPTH
+    long data = pack(depth == MAX_DEPTH ? MAX_DEPTH : Math.min(depth, MAX_DEPTH - 1), bound,
+        Math.max(MIN_SCORE, Math.min(MAX_SCORE, score)), move);
+    ByteBuffer chunk = chunk(key);
+    int offset = offset(key);
+    long deepData = chunk.getLong(offset + 8);
+    boolean sameKey = (chunk.getLong(offset) ^ deepData) == key;
+    if (deepData == MISS || sameKey || depth(data) >= depth(deepData)) {
+      chunk.putLong(offset, key ^ data);
+      chunk.putLong(offset + 8, data);
+    } else {
+      chunk.putLong(offset + ENTRY_BYTES, key ^ data);
+      chunk.putLong(offset + ENTRY_BYTES + 8, data);
+    }
+  }
+
+  /**
+   * Empties the table.
+   */
+  public void clear() {
+    for (ByteBuffer chunk : chunks) {
+      for (int i = 0; i < chunk.capacity(); i += 8) {
+        chunk.putLong(i, 0);
+      }
+    }
+  }
+
+  /**
+   * Returns the depth of a stored entry.
+   *
+   * @param entry an entry returned by {@link #probe(long)}
+   * @return the depth the position was searched to
+   */
+  public static int depth(long entry) {
+    return (int) (entry >>> 58);
+  }
+
+  /**
+   * Returns the kind of bound a stored entry's score is.
+   *
+   * @param entry an entry returned by {@link #probe(long)}
+   * @return {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+   */
+  public static int bound(long entry) {
+    return (int) (entry >>> 56) & 3;
+  }
+
+  /**
+   * Returns the score of a stored entry.
+   *
+   * @param entry an entry returned by {@link #probe(long)}
+   * @return the score
+   */
+  public static int score(long entry) {
+    // sign-extend the 24-bit score
+    return (int) (entry << 8 >> 40);
+  }
+
+  /**
+   * Returns the best move of a stored entry.
+   *
+   * @param entry an entry returned by {@link #probe(long)}
+   * @return the move, encoded as in {@link sanguine.model.MoveBuffer}, or -1 for a pass
+   */
+  public static int move(long entry) {
+    return (int) entry;
+  }
+
+  /**
+   * Packs an entry: the depth in bits 58-63, the bound in bits 56-57, the score in bits
+   * 32-55 and the move in bits 0-31. The bound is never 0, so neither is the entry.
+   */
+  private static long pack(int depth, int bound, int score, int move) {
+    return ((long) depth << 58) | ((long) bound << 56) | ((score & 0xFFFFFFL) << 32)
+        | (move & 0xFFFFFFFFL);
+  }
+
+  private ByteBuffer chunk(long key) {
+    return chunks[(int) ((key & bucketMask) >>> chunkShift)];
+  }
+
+  private int offset(long key) {
+    return (int) ((key & bucketMask & chunkMask) << BUCKET_SHIFT);
+  }
+}
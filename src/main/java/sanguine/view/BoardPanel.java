@@ -12,11 +12,9 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.swing.JPanel;
 import sanguine.controller.PlayerActionListener;
-import sanguine.model.CardCell;
-import sanguine.model.Cell;
-import sanguine.model.PawnsCell;
 import sanguine.model.Player;
 import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineCard;
 
 /**
  * Renders the game board grid with cards and pawns.
@@ -75,17 +73,17 @@ public class BoardPanel extends JPanel {
               20, 20);
         }
 
-        Cell cell = model.getCell(r, c);
         Player owner = model.getOwner(r, c);
+        SanguineCard card = owner == null ? null : model.cardAt(r, c);
 
-        if (cell instanceof CardCell cc) {
-          SanguineVisualView.drawCardStatic(g2d, cc.getCard(), owner,
+        if (card != null) {
+          SanguineVisualView.drawCardStatic(g2d, card, owner,
               x + 8, y + 8, CELL_SIZE - 16, CELL_SIZE - 16, false);
-        } else if (cell instanceof PawnsCell pc) {
+        } else if (owner != null) {
           g2d.setColor(owner == Player.RED ? new Color(220, 50, 50) :
               new Color(50, 50, 220));
           g2d.setFont(new Font("SansSerif", Font.BOLD, 48));
-          String text = String.valueOf(pc.getPawnCount());
+          String text = String.valueOf(model.pawnCount(r, c));
           FontMetrics fm = g2d.getFontMetrics();
           int tx = x + (CELL_SIZE - fm.stringWidth(text)) / 2;
           int ty = y + (CELL_SIZE + fm.getAscent()) / 2;
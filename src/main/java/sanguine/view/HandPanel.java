@@ -13,7 +13,6 @@ import javax.swing.JPanel;
 import sanguine.controller.PlayerActionListener;
 import sanguine.model.Player;
 import sanguine.model.ReadOnlySanguineModel;
-import sanguine.model.SanguineCard;
 
 /**
  * Displays the current player's hand as a horizontal row of clickable cards.
@@ -58,20 +57,20 @@ public class HandPanel extends JPanel {
     g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
     Player currentPlayer = model.getCurrentPlayer();
-    List<SanguineCard> hand = model.getHand(currentPlayer);
+    int handSize = model.handSize(currentPlayer);
 
-    if (hand.isEmpty()) {
+    if (handSize == 0) {
       g2d.setColor(Color.GRAY);
       g2d.setFont(getFont().deriveFont(18f));
       g2d.drawString("No cards in hand", 30, 60);
       return;
     }
 
-    int totalWidth = hand.size() * CARD_W + Math.max(0, hand.size() - 1) * CARD_SPACING;
+    int totalWidth = handSize * CARD_W + Math.max(0, handSize - 1) * CARD_SPACING;
     int startX = Math.max(20, (getWidth() - totalWidth) / 2);
     int y = 30;
 
-    for (int i = 0; i < hand.size(); i++) {
+    for (int i = 0; i < handSize; i++) {
       int x = startX + i * (CARD_W + CARD_SPACING);
 
       if (i == selectedCardIndex) {
@@ -80,8 +79,8 @@ public class HandPanel extends JPanel {
             35, 35);
       }
 
-      SanguineVisualView.drawCardStatic(g2d, hand.get(i), currentPlayer, x, y, CARD_W, CARD_H,
-          true);
+      SanguineVisualView.drawCardStatic(g2d, model.handCard(currentPlayer, i), currentPlayer,
+          x, y, CARD_W, CARD_H, true);
     }
   }
 
@@ -125,17 +124,17 @@ public class HandPanel extends JPanel {
   private class HandClickListener extends MouseAdapter {
     @Override
     public void mouseClicked(MouseEvent e) {
-      List<SanguineCard> hand = model.getHand(model.getCurrentPlayer());
-      if (hand.isEmpty()) {
+      int handSize = model.handSize(model.getCurrentPlayer());
+      if (handSize == 0) {
         return;
       }
 
-      int totalWidth = hand.size() * CARD_W + Math.max(0, hand.size() - 1) * CARD_SPACING;
+      int totalWidth = handSize * CARD_W + Math.max(0, handSize - 1) * CARD_SPACING;
       int startX = Math.max(20, (getWidth() - totalWidth) / 2);
 
       int mx = e.getX();
 
-      for (int i = 0; i < hand.size(); i++) {
+      for (int i = 0; i < handSize; i++) {
         int left = startX + i * (CARD_W + CARD_SPACING);
         int right = left + CARD_W;
 
@@ -202,10 +202,7 @@ public class SanguineVisualView extends JFrame implements VisualSanguineView {
     g2d.drawString("Value: " + card.getValue(), x + 12, y + 72);
 
     if (inHand) {
-      boolean[][] inf = card.getInfluence();
-      if (owner == Player.BLUE) {
-        inf = mirrorInfluence(inf);
-      }
+      int inf = card.getInfluenceMask(owner);
 
       int gridX = x + (w - 50) / 2;
       int gridY = y + 100;
@@ -213,8 +210,8 @@ public class SanguineVisualView extends JFrame implements VisualSanguineView {
         for (int c = 0; c < 5; c++) {
           int cx = gridX + c * 10;
           int cy = gridY + r * 10;
-          g2d.setColor(inf[r][c] ? Color.CYAN : (r == 2 && c == 2) ? Color.ORANGE :
-              Color.LIGHT_GRAY);
+          g2d.setColor((inf & (1 << (r * 5 + c))) != 0 ? Color.CYAN
+              : (r == 2 && c == 2) ? Color.ORANGE : Color.LIGHT_GRAY);
           g2d.fillRect(cx, cy, 10, 10);
           g2d.setColor(Color.GRAY);
           g2d.drawRect(cx, cy, 10, 10);
@@ -222,18 +219,4 @@ public class SanguineVisualView extends JFrame implements VisualSanguineView {
       }
     }
   }
-
-  /**
-   * Returns a horizontally mirrored copy of a 5×5 influence grid.
-   * Used when rendering Blue player's cards so their influence pattern faces the correct direction.
-   */
-  private static boolean[][] mirrorInfluence(boolean[][] grid) {
-    boolean[][] mirrored = new boolean[5][5];
-    for (int r = 0; r < 5; r++) {
-      for (int c = 0; c < 5; c++) {
-        mirrored[r][c] = grid[r][4 - c];
-      }
-    }
-    return mirrored;
-  }
 }
\ No newline at end of file
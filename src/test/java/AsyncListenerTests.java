@@ -0,0 +1,117 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import sanguine.controller.AsyncGameStatusListener;
+import sanguine.controller.GameStatusListener;
+import sanguine.model.BasicSanguine;
+import sanguine.model.Player;
+
+/**
+ * Tests for delivering game status events asynchronously.
+ */
+public class AsyncListenerTests {
+
+  private ExecutorService executor;
+
+  /**
+   * Creates a pool to deliver events on.
+   */
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  /**
+   * Stops the pool.
+   */
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * A listener that records events and can be held up until released.
+   */
+  private static class SlowListener implements GameStatusListener {
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch release;
+    private final CountDownLatch gameOver = new CountDownLatch(1);
+
+    SlowListener(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public void turnChanged(Player currentPlayer) {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      events.add("turn " + currentPlayer);
+    }
+
+    @Override
+    public void gameOver(Player winner, int redScore, int blueScore) {
+      events.add("over " + redScore + " " + blueScore);
+      gameOver.countDown();
+    }
+  }
+
+  @Test
+  public void testEventsDeliveredInOrder() throws InterruptedException {
+    SlowListener slow = new SlowListener(new CountDownLatch(0));
+    GameStatusListener async = new AsyncGameStatusListener(slow, executor);
+    for (int i = 0; i < 100; i++) {
+      async.turnChanged(i % 2 == 0 ? Player.RED : Player.BLUE);
+    }
+    async.gameOver(null, 1, 1);
+    assertTrue(slow.gameOver.await(5, TimeUnit.SECONDS));
+    assertEquals(101, slow.events.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i % 2 == 0 ? "turn RED" : "turn BLUE", slow.events.get(i));
+    }
+    assertEquals("over 1 1", slow.events.get(100));
+  }
+
+  @Test
+  public void testSlowListenerDoesNotBlockMoves() throws InterruptedException {
+    BasicSanguine game = new BasicSanguine(3, 5, "docs/config.deck", 3);
+    CountDownLatch release = new CountDownLatch(1);
+    SlowListener slow = new SlowListener(release);
+    game.addGameStatusListener(slow);
+    game.setDispatchExecutor(executor);
+    game.playCard(0, 0, 0);
+    game.pass();
+    game.pass();
+    assertTrue(game.isGameOver());
+    assertTrue(slow.events.isEmpty());
+    release.countDown();
+    assertTrue(slow.gameOver.await(5, TimeUnit.SECONDS));
+    assertEquals(List.of("turn BLUE", "turn RED", "turn BLUE", "over 1 0"), slow.events);
+  }
+
+  @Test
+  public void testDirectDispatchByDefault() {
+    BasicSanguine game = new BasicSanguine(3, 5, "docs/config.deck", 3);
+    SlowListener listener = new SlowListener(new CountDownLatch(0));
+    game.addGameStatusListener(listener);
+    game.playCard(0, 0, 0);
+    assertEquals(List.of("turn BLUE"), listener.events);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullExecutor() {
+    new AsyncGameStatusListener(new SlowListener(new CountDownLatch(0)), null);
+  }
+}
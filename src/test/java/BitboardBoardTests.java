@@ -0,0 +1,61 @@
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import sanguine.model.BasicSanguineCard;
+import sanguine.model.BitboardSanguineBoard;
+import sanguine.model.Player;
+import sanguine.model.SanguineBoard;
+import sanguine.model.SanguineCard;
+
+/**
+ * Runs the board tests against BitboardSanguineBoard, plus checks for boards wider than
+ * one 64-bit word.
+ */
+public class BitboardBoardTests extends BoardTests {
+
+  @Override
+  protected SanguineBoard makeBoard(int rows, int cols) {
+    return new BitboardSanguineBoard(rows, cols);
+  }
+
+  @Test
+  public void testInfluenceAcrossWordBoundary() {
+    boolean[][] rightGrid = {
+        {false, false, false, false, false},
+        {false, false, false, false, false},
+        {false, false, false, true,  true},
+        {false, false, false, false, false},
+        {false, false, false, false, false}
+    };
+    SanguineCard right = new BasicSanguineCard("Right", 1, 1, rightGrid);
+    SanguineBoard board = makeBoard(1, 71);
+    board.playCard(right, Player.BLUE, 0, 70);
+    assertEquals(Player.BLUE, board.getCell(0, 68).getOwner());
+    assertEquals(Player.BLUE, board.getCell(0, 69).getOwner());
+    assertEquals(1, board.getScore(0, Player.BLUE));
+  }
+
+  @Test
+  public void testMatchesBasicBoardOnWideBoard() {
+    boolean[][] crossGrid = {
+        {false, false, false, false, false},
+        {false, false, true,  false, false},
+        {false, true,  false, true,  true},
+        {false, false, true,  false, false},
+        {false, false, false, false, false}
+    };
+    SanguineCard cross = new BasicSanguineCard("Cross", 1, 2, crossGrid);
+    SanguineBoard basic = super.makeBoard(3, 67);
+    SanguineBoard bits = makeBoard(3, 67);
+    int[][] plays = {{1, 0}, {1, 1}, {1, 2}, {0, 1}};
+    for (int[] p : plays) {
+      basic.playCard(cross, Player.RED, p[0], p[1]);
+      bits.playCard(cross, Player.RED, p[0], p[1]);
+    }
+    basic.playCard(cross, Player.BLUE, 1, 66);
+    bits.playCard(cross, Player.BLUE, 1, 66);
+    basic.recalcAllScores();
+    assertEquals(basic.toString(), bits.toString());
+    assertEquals(basic.getZobristKey(), bits.getZobristKey());
+  }
+}
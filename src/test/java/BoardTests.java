@@ -6,6 +6,9 @@ import org.junit.Before;
 import org.junit.Test;
 import sanguine.model.BasicSanguineBoard;
 import sanguine.model.BasicSanguineCard;
+import sanguine.model.CardCell;
+import sanguine.model.EmptyCell;
+import sanguine.model.PawnsCell;
 import sanguine.model.Player;
 import sanguine.model.SanguineBoard;
 import sanguine.model.SanguineCard;
@@ -44,28 +47,39 @@ public class BoardTests {
     };
     levrikonCard = new BasicSanguineCard("Levrikon", 2, 3, levrikonGrid);
 
-    board3x5 = new BasicSanguineBoard(3, 5);
-    board1x3 = new BasicSanguineBoard(1, 3);
+    board3x5 = makeBoard(3, 5);
+    board1x3 = makeBoard(1, 3);
+  }
+
+  /**
+   * Creates the board implementation under test.
+   *
+   * @param rows number of rows
+   * @param cols number of columns
+   * @return a new empty board
+   */
+  protected SanguineBoard makeBoard(int rows, int cols) {
+    return new BasicSanguineBoard(rows, cols);
   }
 
   @Test(expected = IllegalArgumentException.class)
   public void testConstructorInvalidRows() {
-    new BasicSanguineBoard(0, 5);
+    makeBoard(0, 5);
   }
 
   @Test(expected = IllegalArgumentException.class)
   public void testConstructorInvalidColsEven() {
-    new BasicSanguineBoard(3, 4);
+    makeBoard(3, 4);
   }
 
   @Test(expected = IllegalArgumentException.class)
   public void testConstructorInvalidColsTooSmall() {
-    new BasicSanguineBoard(3, 1);
+    makeBoard(3, 1);
   }
 
   @Test
   public void testConstructorValidDimensions() {
-    SanguineBoard board = new BasicSanguineBoard(2, 7);
+    SanguineBoard board = makeBoard(2, 7);
     assertEquals(2, board.getHeight());
     assertEquals(7, board.getWidth());
   }
@@ -252,4 +266,145 @@ public class BoardTests {
     assertEquals(3, board1x3.getWidth());
     assertEquals(1, board1x3.getHeight());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testIncrementalScoresMatchRecalc() {
+    board3x5.playCard(securityCard, Player.RED, 1, 0);
+    board3x5.playCard(securityCard, Player.RED, 0, 0);
+    board3x5.playCard(securityCard, Player.BLUE, 1, 4);
+    board3x5.playCard(securityCard, Player.RED, 1, 1);
+    String incremental = board3x5.toString();
+    board3x5.recalcAllScores();
+    assertEquals(incremental, board3x5.toString());
+    assertEquals(4, board3x5.getScore(1, Player.RED));
+    assertEquals(2, board3x5.getScore(1, Player.BLUE));
+  }
+
+  @Test
+  public void testCopyKeepsScores() {
+    board3x5.playCard(securityCard, Player.RED, 0, 0);
+    SanguineBoard copy = new BasicSanguineBoard(board3x5);
+    assertEquals(2, copy.getScore(0, Player.RED));
+    assertEquals(board3x5.toString(), copy.toString());
+  }
+
+  @Test
+  public void testSnapshotUnaffectedByLaterPlays() {
+    board3x5.playCard(securityCard, Player.RED, 1, 0);
+    SanguineBoard before = board3x5.snapshot();
+    board3x5.playCard(securityCard, Player.RED, 0, 0);
+    board3x5.playCard(securityCard, Player.BLUE, 1, 4);
+    assertEquals("0 2___1 0\n"
+        + "2 R1__1 0\n"
+        + "0 2___1 0", before.toString());
+    assertEquals(0, before.getScore(0, Player.RED));
+    assertEquals("R", before.getCell(1, 0).toString());
+    assertEquals(board3x5.toString(), board3x5.snapshot().toString());
+  }
+
+  @Test
+  public void testCopyFromSnapshotIsIndependent() {
+    SanguineBoard snap = board3x5.snapshot();
+    SanguineBoard copy = new BasicSanguineBoard(snap);
+    copy.playCard(securityCard, Player.RED, 0, 0);
+    assertEquals("0 1___1 0", snap.toString().split("\n")[0]);
+    assertEquals("0 1___1 0", board3x5.toString().split("\n")[0]);
+    assertEquals("2 R1__1 0", copy.toString().split("\n")[0]);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testSnapshotRejectsPlays() {
+    board3x5.snapshot().playCard(securityCard, Player.RED, 0, 0);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testSnapshotCellsUnmodifiable() {
+    board3x5.snapshot().getBoardCells().get(0).set(0, null);
+  }
+
+  @Test
+  public void testRollbackRestoresBoardAndScores() {
+    board3x5.playCard(securityCard, Player.RED, 1, 0);
+    String start = board3x5.toString();
+    int outer = board3x5.checkpoint();
+    board3x5.playCard(securityCard, Player.RED, 0, 0);
+    String middle = board3x5.toString();
+    int inner = board3x5.checkpoint();
+    board3x5.playCard(securityCard, Player.BLUE, 1, 4);
+    board3x5.playCard(securityCard, Player.RED, 1, 1);
+    board3x5.rollback(inner);
+    assertEquals(middle, board3x5.toString());
+    board3x5.rollback(outer);
+    assertEquals(start, board3x5.toString());
+    assertEquals(2, board3x5.getScore(1, Player.RED));
+    assertEquals(0, board3x5.getScore(0, Player.RED));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRollbackWithoutCheckpoint() {
+    board3x5.rollback(0);
+  }
+
+  @Test
+  public void testZobristKeyTracksPosition() {
+    SanguineBoard other = makeBoard(3, 5);
+    assertEquals(board3x5.getZobristKey(), other.getZobristKey());
+    board3x5.playCard(securityCard, Player.RED, 0, 0);
+    board3x5.playCard(securityCard, Player.BLUE, 2, 4);
+    other.playCard(securityCard, Player.BLUE, 2, 4);
+    assertFalse(board3x5.getZobristKey() == other.getZobristKey());
+    other.playCard(securityCard, Player.RED, 0, 0);
+    assertEquals(board3x5.getZobristKey(), other.getZobristKey());
+    assertEquals(board3x5.getZobristKey(), board3x5.snapshot().getZobristKey());
+  }
+
+  @Test
+  public void testZobristKeyRestoredByRollback() {
+    long start = board3x5.getZobristKey();
+    int mark = board3x5.checkpoint();
+    board3x5.playCard(securityCard, Player.RED, 1, 0);
+    assertFalse(start == board3x5.getZobristKey());
+    board3x5.rollback(mark);
+    assertEquals(start, board3x5.getZobristKey());
+  }
+
+  @Test
+  public void testPutCellCopiesPosition() {
+    board3x5.playCard(securityCard, Player.RED, 0, 0);
+    board3x5.playCard(securityCard, Player.BLUE, 1, 4);
+    SanguineBoard other = makeBoard(3, 5);
+    for (int r = 0; r < 3; r++) {
+      for (int c = 0; c < 5; c++) {
+        other.putCell(r, c, board3x5.getCell(r, c));
+      }
+    }
+    assertEquals(board3x5.toString(), other.toString());
+    assertEquals(board3x5.getZobristKey(), other.getZobristKey());
+    other.putCell(0, 0, EmptyCell.instance());
+    assertEquals(0, other.getScore(0, Player.RED));
+    other.putCell(0, 0, new CardCell(levrikonCard, Player.BLUE));
+    assertEquals(3, other.getScore(0, Player.BLUE));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPutCellWithCheckpointOpen() {
+    board3x5.checkpoint();
+    board3x5.putCell(1, 1, PawnsCell.of(Player.RED, 2));
+  }
+
+  @Test
+  public void testLargeBoardPlaysAndSnapshots() {
+    SanguineBoard big = makeBoard(500, 501);
+    big.playCard(securityCard, Player.RED, 250, 0);
+    big.playCard(securityCard, Player.BLUE, 499, 500);
+    SanguineBoard snapshot = big.snapshot();
+    assertEquals(2, big.getScore(250, Player.RED));
+    assertEquals(2, snapshot.getScore(499, Player.BLUE));
+    assertEquals(2, snapshot.getCell(251, 0).getPawnCount());
+    assertEquals(Player.RED, snapshot.getCell(250, 1).getOwner());
+    assertEquals(Player.BLUE, snapshot.getCell(0, 500).getOwner());
+    assertEquals(null, snapshot.getCell(0, 250).getOwner());
+    big.playCard(securityCard, Player.RED, 250, 1);
+    assertEquals(null, snapshot.getCell(250, 1).getCard());
+  }
+}
@@ -1,9 +1,16 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
 import org.junit.Test;
 import sanguine.model.BasicSanguineCard;
+import sanguine.model.CardCell;
+import sanguine.model.CardRegistry;
+import sanguine.model.Cell;
+import sanguine.model.DeckReader;
+import sanguine.model.Player;
 import sanguine.model.SanguineCard;
 
 /**
@@ -148,4 +155,103 @@ public class CardTests {
     SanguineCard card4 = new BasicSanguineCard("Levrikon", 1, 1, levrikonGrid);
     assertFalse(card1.equals(card4));
   }
+
+  @Test
+  public void testInfluenceMask() {
+    this.initData();
+    SanguineCard card = new BasicSanguineCard("Levrikon", 2, 1, levrikonGrid);
+    // red: (2,3) and (3,2); blue mirrored: (2,1) and (3,2)
+    assertEquals((1 << 13) | (1 << 17), card.getInfluenceMask(Player.RED));
+    assertEquals((1 << 11) | (1 << 17), card.getInfluenceMask(Player.BLUE));
+    card.flipGrid();
+    assertEquals((1 << 11) | (1 << 17), card.getInfluenceMask(Player.RED));
+    assertEquals((1 << 13) | (1 << 17), card.getInfluenceMask(Player.BLUE));
+  }
+
+  @Test
+  public void testInternSharesEqualCards() {
+    this.initData();
+    SanguineCard card1 = CardRegistry.intern(new BasicSanguineCard("Interned", 1, 2,
+        securityGrid));
+    SanguineCard card2 = CardRegistry.intern(new BasicSanguineCard("Interned", 1, 2,
+        securityGrid));
+    SanguineCard card3 = CardRegistry.intern(new BasicSanguineCard("Interned", 1, 2,
+        levrikonGrid));
+    assertSame(card1, card2);
+    assertTrue(card1.getId() >= 0);
+    assertFalse(card1.getId() == card3.getId());
+    assertFalse(card1.equals(card3));
+    assertTrue(card1.equals(new BasicSanguineCard("Interned", 1, 2, securityGrid)));
+    assertEquals(-1, new BasicSanguineCard("Interned", 1, 2, securityGrid).getId());
+  }
+
+  @Test
+  public void testInternGrowsRegistry() {
+    this.initData();
+    // enough new cards to outgrow whatever capacity the registry has now
+    int count = CardRegistry.size() + 64;
+    for (int i = 0; i < count; i++) {
+      SanguineCard card = CardRegistry.intern(new BasicSanguineCard("Grow" + i, 1, 1,
+          securityGrid));
+      assertEquals("Grow" + i, card.getName());
+      assertSame(card, CardRegistry.card(card.getId()));
+    }
+  }
+
+  @Test
+  public void testRegistryPrimitivesMatchCard() {
+    this.initData();
+    SanguineCard card = CardRegistry.intern(new BasicSanguineCard("Levrikon", 2, 1,
+        levrikonGrid));
+    int id = card.getId();
+    assertSame(card, CardRegistry.card(id));
+    assertEquals(2, CardRegistry.cost(id));
+    assertEquals(1, CardRegistry.value(id));
+    assertEquals(card.getInfluenceMask(Player.RED), CardRegistry.mask(id, Player.RED));
+    assertEquals(card.getInfluenceMask(Player.BLUE), CardRegistry.mask(id, Player.BLUE));
+    assertTrue(CardRegistry.size() > id);
+  }
+
+  @Test
+  public void testRegisteredCardCellsAreShared() {
+    this.initData();
+    SanguineCard card = CardRegistry.intern(new BasicSanguineCard("Security", 1, 1,
+        securityGrid));
+    Cell cell = CardCell.of(card, Player.BLUE);
+    assertSame(cell, CardCell.of(card, Player.BLUE));
+    assertSame(cell, cell.makeCopy());
+    assertFalse(cell == CardCell.of(card, Player.RED));
+  }
+
+  @Test
+  public void testDeckReaderInternsCards() {
+    List<SanguineCard> deck = DeckReader.readDeck("docs/config.deck");
+    for (SanguineCard card : deck) {
+      assertTrue(card.getId() >= 0);
+      assertSame(card, CardRegistry.card(card.getId()));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFlipRegisteredCard() {
+    this.initData();
+    CardRegistry.intern(new BasicSanguineCard("Security", 1, 1, securityGrid)).flipGrid();
+  }
+
+  @Test
+  public void testLookupDoesNotRegister() {
+    this.initData();
+    SanguineCard card = new BasicSanguineCard("NeverRegistered", 1, 1, securityGrid);
+    int size = CardRegistry.size();
+    assertEquals(-1, CardRegistry.lookup(card));
+    assertEquals(size, CardRegistry.size());
+    int id = CardRegistry.idOf(card);
+    assertEquals(id, CardRegistry.lookup(card));
+    assertEquals(size + 1, CardRegistry.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownCardId() {
+    CardRegistry.card(Integer.MAX_VALUE);
+  }
 }
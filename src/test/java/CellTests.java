@@ -1,5 +1,6 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -145,4 +146,20 @@ public class CellTests {
     copyCard.addPawns(Player.BLUE);
     assertEquals("R", cardCell.toString());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testCanonicalCellsAreShared() {
+    assertSame(PawnsCell.of(Player.RED, 1), EmptyCell.instance().addPawns(Player.RED));
+    assertSame(PawnsCell.of(Player.RED, 2), PawnsCell.of(Player.RED, 1).addPawns(Player.RED));
+    assertSame(PawnsCell.of(Player.BLUE, 2), PawnsCell.of(Player.RED, 2).addPawns(Player.BLUE));
+    assertSame(PawnsCell.of(Player.BLUE, 3), PawnsCell.of(Player.BLUE, 3).addPawns(Player.BLUE));
+    assertSame(EmptyCell.instance(), EmptyCell.instance().makeCopy());
+    Cell pawns = PawnsCell.of(Player.BLUE, 2);
+    assertSame(pawns, pawns.makeCopy());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCanonicalPawnsInvalidCount() {
+    PawnsCell.of(Player.RED, 4);
+  }
+}
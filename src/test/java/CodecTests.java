@@ -0,0 +1,144 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguineBoard;
+import sanguine.model.GameStateCodec;
+import sanguine.model.MoveBuffer;
+import sanguine.model.Player;
+
+/**
+ * Tests for encoding and decoding game states with GameStateCodec.
+ */
+public class CodecTests {
+
+  private static final String CONFIG_DECK = "docs/config.deck";
+
+  private BasicSanguine game;
+
+  /**
+   * Sets up a game with the config deck and a few moves played.
+   */
+  @Before
+  public void setUp() {
+    game = new BasicSanguine(3, 5, CONFIG_DECK, 3);
+    game.playCard(0, 0, 0);
+    game.playCard(0, 0, 4);
+    game.pass();
+  }
+
+  /**
+   * Describes the parts of the game state the codec must restore.
+   */
+  private static String describe(BasicSanguine g) {
+    StringBuilder sb = new StringBuilder(g.getBoard().toString());
+    for (Player p : Player.values()) {
+      sb.append('\n').append(p).append(':');
+      for (int i = 0; i < g.handSize(p); i++) {
+        sb.append(' ').append(g.handCard(p, i).getName());
+      }
+    }
+    return sb.append('\n').append(g.getCurrentPlayer()).append(' ')
+        .append(g.getZobristKey()).toString();
+  }
+
+  @Test
+  public void testRoundTrip() {
+    byte[] data = GameStateCodec.encode(game);
+    assertEquals(GameStateCodec.encodedSize(game), data.length);
+    BasicSanguine fresh = new BasicSanguine(3, 5, CONFIG_DECK, 3);
+    GameStateCodec.decodeInto(data, fresh);
+    assertEquals(describe(game), describe(fresh));
+    assertArrayEquals(data, GameStateCodec.encode(fresh));
+  }
+
+  @Test
+  public void testRoundTripAcrossBoardTypes() {
+    byte[] data = GameStateCodec.encode(game);
+    BasicSanguine bits = new BasicSanguine(new BitboardSanguineBoard(3, 5), CONFIG_DECK, 3);
+    GameStateCodec.decodeInto(data, bits);
+    assertEquals(describe(game), describe(bits));
+  }
+
+  @Test
+  public void testDecodedGameKeepsPlaying() {
+    BasicSanguine fresh = new BasicSanguine(3, 5, CONFIG_DECK, 3);
+    GameStateCodec.decodeInto(GameStateCodec.encode(game), fresh);
+    MoveBuffer moves = new MoveBuffer();
+    game.legalMoves(game.getCurrentPlayer(), moves);
+    int move = moves.get(0);
+    game.playCard(MoveBuffer.cardIndex(move), MoveBuffer.row(move), MoveBuffer.col(move));
+    fresh.playCard(MoveBuffer.cardIndex(move), MoveBuffer.row(move), MoveBuffer.col(move));
+    assertEquals(describe(game), describe(fresh));
+  }
+
+  @Test
+  public void testDecodeOverMadeMoves() {
+    for (BasicSanguine g : new BasicSanguine[] {game,
+        new BasicSanguine(new BitboardSanguineBoard(3, 5), CONFIG_DECK, 3)}) {
+      byte[] data = GameStateCodec.encode(g);
+      String before = describe(g);
+      MoveBuffer moves = new MoveBuffer();
+      g.legalMoves(g.getCurrentPlayer(), moves);
+      int move = moves.get(0);
+      g.makeMove(MoveBuffer.cardIndex(move), MoveBuffer.row(move), MoveBuffer.col(move));
+      g.makePass();
+      GameStateCodec.decodeInto(data, g);
+      assertEquals(before, describe(g));
+      // the discarded moves leave nothing behind that the next search would roll back
+      long undo = g.makeMove(MoveBuffer.cardIndex(move), MoveBuffer.row(move),
+          MoveBuffer.col(move));
+      g.unmakeMove(undo);
+      assertEquals(before, describe(g));
+    }
+  }
+
+  @Test
+  public void testThreeByFiveStateIsCompact() {
+    assertEquals(78, GameStateCodec.encode(new BasicSanguine(3, 5, CONFIG_DECK, 5)).length);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDecodeWrongBoardSize() {
+    GameStateCodec.decodeInto(GameStateCodec.encode(game),
+        new BasicSanguine(5, 5, CONFIG_DECK, 3));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDecodeTruncated() {
+    byte[] data = GameStateCodec.encode(game);
+    GameStateCodec.decodeInto(Arrays.copyOf(data, data.length - 1), game);
+  }
+
+  @Test
+  public void testCorruptScoresLeaveGameUnchanged() {
+    BasicSanguine fresh = new BasicSanguine(3, 5, CONFIG_DECK, 3);
+    String before = describe(fresh);
+    byte[] data = GameStateCodec.encode(game);
+    data[data.length - 1]++;
+    try {
+      GameStateCodec.decodeInto(data, fresh);
+    } catch (IllegalArgumentException e) {
+      // expected, the scores no longer match the cells
+    }
+    assertEquals(before, describe(fresh));
+  }
+
+  @Test
+  public void testSeededRoundTrip() {
+    BasicSanguine seeded = new BasicSanguine(3, 5, CONFIG_DECK, 3, 99);
+    seeded.pass();
+    BasicSanguine fresh = new BasicSanguine(3, 5, CONFIG_DECK, 3, 99);
+    GameStateCodec.decodeInto(GameStateCodec.encode(seeded), fresh);
+    assertEquals(describe(seeded), describe(fresh));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDecodeWrongSeed() {
+    GameStateCodec.decodeInto(GameStateCodec.encode(new BasicSanguine(3, 5, CONFIG_DECK, 3, 1)),
+        new BasicSanguine(3, 5, CONFIG_DECK, 3, 2));
+  }
+}
@@ -0,0 +1,143 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.Test;
+import sanguine.controller.GameStatusListener;
+import sanguine.model.BasicSanguine;
+import sanguine.model.Cell;
+import sanguine.model.ConcurrentSanguine;
+import sanguine.model.GameSnapshot;
+import sanguine.model.MoveBuffer;
+import sanguine.model.Player;
+
+/**
+ * Tests for ConcurrentSanguine and the snapshots it publishes.
+ */
+public class ConcurrentModelTests {
+
+  private static final String CONFIG_DECK = "docs/config.deck";
+
+  private ConcurrentSanguine game;
+
+  /**
+   * Sets up a thread-safe game with the config deck.
+   */
+  @Before
+  public void setUp() {
+    game = new ConcurrentSanguine(3, 5, CONFIG_DECK, 3);
+  }
+
+  /**
+   * Plays the first legal move for the current player, or passes if there is none.
+   */
+  private static void playFirstMove(ConcurrentSanguine g) {
+    MoveBuffer moves = new MoveBuffer();
+    g.legalMoves(g.getCurrentPlayer(), moves);
+    if (moves.size() == 0) {
+      g.pass();
+    } else {
+      int move = moves.get(0);
+      g.playCard(MoveBuffer.cardIndex(move), MoveBuffer.row(move), MoveBuffer.col(move));
+    }
+  }
+
+  /**
+   * Returns whether every row score in the snapshot matches the cards on its board.
+   */
+  private static boolean consistent(GameSnapshot s) {
+    for (int r = 0; r < s.getBoardHeight(); r++) {
+      int red = 0;
+      int blue = 0;
+      for (int c = 0; c < s.getBoardWidth(); c++) {
+        Cell cell = s.getBoard().getCell(r, c);
+        if (cell.getCard() != null) {
+          if (cell.getOwner() == Player.RED) {
+            red += cell.getCard().getValue();
+          } else {
+            blue += cell.getCard().getValue();
+          }
+        }
+      }
+      if (red != s.getScore(r, Player.RED) || blue != s.getScore(r, Player.BLUE)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Test
+  public void testMatchesBasicGame() {
+    BasicSanguine basic = new BasicSanguine(3, 5, CONFIG_DECK, 3);
+    basic.playCard(0, 0, 0);
+    game.playCard(0, 0, 0);
+    assertEquals(basic.getBoard().toString(), game.getBoard().toString());
+    assertEquals(basic.getCurrentPlayer(), game.getCurrentPlayer());
+    assertEquals(basic.getZobristKey(), game.getZobristKey());
+    assertEquals(basic.getHand(Player.RED).size(), game.handSize(Player.RED));
+  }
+
+  @Test
+  public void testSnapshotDoesNotChange() {
+    GameSnapshot before = game.current();
+    String board = before.getBoard().toString();
+    game.playCard(0, 0, 0);
+    assertNotSame(before, game.current());
+    assertEquals(board, before.getBoard().toString());
+    assertEquals(Player.RED, before.getCurrentPlayer());
+    assertEquals(Player.BLUE, game.getCurrentPlayer());
+  }
+
+  @Test
+  public void testListenersSeePublishedState() {
+    List<String> seen = new ArrayList<>();
+    game.addGameStatusListener(new GameStatusListener() {
+      @Override
+      public void turnChanged(Player currentPlayer) {
+        seen.add(currentPlayer + " " + game.getCurrentPlayer());
+      }
+
+      @Override
+      public void gameOver(Player winner, int redScore, int blueScore) {
+        seen.add("over " + game.isGameOver());
+      }
+    });
+    game.playCard(0, 0, 0);
+    game.pass();
+    game.pass();
+    assertEquals(List.of("BLUE BLUE", "RED RED", "BLUE BLUE", "over true"), seen);
+  }
+
+  @Test
+  public void testReadersAlwaysSeeConsistentState() throws InterruptedException {
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicReference<String> failure = new AtomicReference<>();
+    List<Thread> readers = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Thread reader = new Thread(() -> {
+        while (!done.get()) {
+          if (!consistent(game.current())) {
+            failure.set("inconsistent snapshot");
+          }
+        }
+      });
+      reader.start();
+      readers.add(reader);
+    }
+    while (!game.isGameOver()) {
+      playFirstMove(game);
+    }
+    done.set(true);
+    for (Thread reader : readers) {
+      reader.join();
+    }
+    assertEquals(null, failure.get());
+    assertTrue(game.isGameOver());
+    assertTrue(consistent(game.current()));
+  }
+}
@@ -0,0 +1,110 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import sanguine.model.BasicSanguine;
+import sanguine.model.DeckCache;
+import sanguine.model.Player;
+import sanguine.model.SanguineCard;
+
+/**
+ * Tests for the process-wide cache of parsed decks.
+ */
+public class DeckCacheTests {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Starts every test with an empty cache.
+   */
+  @Before
+  public void setUp() {
+    DeckCache.clear();
+  }
+
+  /**
+   * Writes a deck of copies of one card to a new file in the temporary folder.
+   */
+  private File writeDeck(String name, String cardName, int cards) throws IOException {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < cards; i++) {
+      text.append(cardName).append(i).append(" 1 1\nXXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXX\n");
+    }
+    File file = folder.newFile(name);
+    Files.write(file.toPath(), text.toString().getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  @Test
+  public void testSameDeckIsShared() {
+    List<SanguineCard> first = DeckCache.get("docs/config.deck");
+    assertSame(first, DeckCache.get("docs/../docs/config.deck"));
+    assertEquals(1, DeckCache.size());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testCachedDeckIsImmutable() {
+    DeckCache.get("docs/config.deck").clear();
+  }
+
+  @Test
+  public void testGamesShareCards() {
+    BasicSanguine first = new BasicSanguine(3, 5, "docs/config.deck", 5);
+    BasicSanguine second = new BasicSanguine(3, 5, "docs/config.deck", 5);
+    for (int i = 0; i < 5; i++) {
+      assertSame(first.getHand(Player.RED).get(i), second.getHand(Player.RED).get(i));
+    }
+    assertEquals(1, DeckCache.size());
+  }
+
+  @Test
+  public void testChangedFileIsReread() throws IOException {
+    File file = writeDeck("changing.deck", "Before", 3);
+    List<SanguineCard> before = DeckCache.get(file.getPath());
+    assertEquals("Before0", before.get(0).getName());
+    StringBuilder text = new StringBuilder();
+    text.append("After0 2 1\nXXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXX\n");
+    Files.write(file.toPath(), text.toString().getBytes(StandardCharsets.UTF_8));
+    Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(
+        Files.getLastModifiedTime(file.toPath()).toMillis() + 5000));
+    List<SanguineCard> after = DeckCache.get(file.getPath());
+    assertEquals(1, after.size());
+    assertEquals("After0", after.get(0).getName());
+    assertEquals(1, DeckCache.size());
+  }
+
+  @Test
+  public void testInvalidate() throws IOException {
+    File file = writeDeck("dropped.deck", "Dropped", 2);
+    List<SanguineCard> first = DeckCache.get(file.getPath());
+    DeckCache.invalidate(file.getPath());
+    assertEquals(0, DeckCache.size());
+    List<SanguineCard> second = DeckCache.get(file.getPath());
+    assertNotSame(first, second);
+    assertEquals(first, second);
+  }
+
+  @Test
+  public void testCacheIsBounded() throws IOException {
+    for (int i = 0; i < DeckCache.MAX_ENTRIES + 8; i++) {
+      DeckCache.get(writeDeck("deck" + i + ".deck", "Bounded", 1).getPath());
+    }
+    assertEquals(DeckCache.MAX_ENTRIES, DeckCache.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingFile() {
+    DeckCache.get("docs/missing.deck");
+  }
+}
@@ -0,0 +1,182 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import sanguine.model.BasicSanguine;
+import sanguine.model.DeckCompiler;
+import sanguine.model.DeckReader;
+import sanguine.model.Player;
+import sanguine.model.SanguineCard;
+
+/**
+ * Tests for parsing deck configurations with DeckReader.
+ */
+public class DeckReaderTests {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static final String SECURITY = "Security 1 1\nXXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXX\n";
+
+  /**
+   * Asserts that reading the text fails with a message starting with the given prefix.
+   */
+  private static void assertError(String text, String prefix) {
+    try {
+      DeckReader.readDeck(new StringReader(text));
+      fail("expected an error for: " + text);
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith(prefix));
+    }
+  }
+
+  @Test
+  public void testReaderMatchesFile() {
+    List<SanguineCard> fromFile = DeckReader.readDeck("docs/config.deck");
+    StringBuilder text = new StringBuilder();
+    for (SanguineCard card : fromFile) {
+      text.append(card.getName()).append(' ').append(card.getCost()).append(' ')
+          .append(card.getValue()).append('\n');
+      boolean[][] grid = card.getInfluence();
+      for (int r = 0; r < 5; r++) {
+        for (int c = 0; c < 5; c++) {
+          text.append(r == 2 && c == 2 ? 'C' : grid[r][c] ? 'I' : 'X');
+        }
+        text.append('\n');
+      }
+    }
+    List<SanguineCard> fromReader = DeckReader.readDeck(new StringReader(text.toString()));
+    assertEquals(fromFile.size(), fromReader.size());
+    for (int i = 0; i < fromFile.size(); i++) {
+      assertSame(fromFile.get(i), fromReader.get(i));
+    }
+  }
+
+  @Test
+  public void testReadStream() {
+    byte[] bytes = SECURITY.getBytes(StandardCharsets.UTF_8);
+    List<SanguineCard> deck = DeckReader.readDeck(new ByteArrayInputStream(bytes));
+    assertEquals(1, deck.size());
+    assertEquals("Security", deck.get(0).getName());
+    assertTrue(deck.get(0).getInfluence()[1][2]);
+  }
+
+  @Test
+  public void testBlankLinesAndLineEndings() {
+    String text = "\n\n  Security   1\t1  \r\nXXXXX\r\nXXIXX\r\nXICIX\r\nXXIXX\r\nXXXXX\r\n\r\n"
+        + SECURITY.replace("Security", "Other").replace('\n', '\r');
+    List<SanguineCard> deck = DeckReader.readDeck(new StringReader(text));
+    assertEquals(2, deck.size());
+    assertEquals("Security", deck.get(0).getName());
+    assertEquals("Other", deck.get(1).getName());
+    assertEquals(deck.get(0).getCost(), deck.get(1).getCost());
+  }
+
+  @Test
+  public void testEmptyDeck() {
+    assertEquals(0, DeckReader.readDeck(new StringReader(" \n\n")).size());
+  }
+
+  @Test
+  public void testLargeDeck() {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 20000; i++) {
+      text.append(SECURITY.replace("Security", "Card" + i)).append('\n');
+    }
+    List<SanguineCard> deck = DeckReader.readDeck(new StringReader(text.toString()));
+    assertEquals(20000, deck.size());
+    assertEquals("Card19999", deck.get(19999).getName());
+  }
+
+  @Test
+  public void testErrorsGiveLineNumbers() {
+    assertError("\nSecurity 1\nXXXXX\n", "line 2: bad header line");
+    assertError("Security one 1\n", "line 1: bad header line");
+    assertError("Security 1 1 1\n", "line 1: bad header line");
+    assertError(SECURITY + "\nOther 1 1\nXXXXX\nXXIX\n", "line 10: influence row must be 5 chars");
+    assertError("Security 1 1\nXXXXX\nXXIXX\nXIXIX\nXXCXX\nXXXXX\n",
+        "line 5: 'C' must be at center (2,2)");
+    assertError("Security 1 1\nXXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXY\n",
+        "line 6: invalid char in grid: 'Y'");
+    assertError("Security 1 1\nXXXXX\nXXIXX\n", "line 4: unexpected end of file");
+    assertError("\nSecurity -1 1\n" + SECURITY.substring(13), "line 2: cost cannot be negative");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingFile() {
+    DeckReader.readDeck("docs/missing.deck");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingResource() {
+    DeckReader.readResource("missing.deck");
+  }
+
+  @Test
+  public void testCompiledDeckMatchesText() throws IOException {
+    File compiled = folder.newFile("big.sdeck");
+    DeckCompiler.compile("docs/big.deck", compiled.getPath());
+    List<SanguineCard> text = DeckReader.readDeck("docs/big.deck");
+    List<SanguineCard> binary = DeckReader.readDeck(compiled.getPath());
+    assertEquals(text.size(), binary.size());
+    for (int i = 0; i < text.size(); i++) {
+      assertSame(text.get(i), binary.get(i));
+    }
+
+    // the text format accepts influence on the card's own cell, so compiled decks must too
+    File centered = folder.newFile("centered.sdeck");
+    List<SanguineCard> card = DeckReader.readDeck(new StringReader(
+        "Centered 1 1\nXXXXX\nXXIXX\nXIIIX\nXXIXX\nXXXXX\n"));
+    try (OutputStream out = Files.newOutputStream(centered.toPath())) {
+      DeckCompiler.write(card, out);
+    }
+    assertSame(card.get(0), DeckReader.readDeck(centered.getPath()).get(0));
+  }
+
+  @Test
+  public void testCompiledCardsMirrorForBlue() throws IOException {
+    File compiled = folder.newFile("fresh.sdeck");
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 15; i++) {
+      text.append("Compiled").append(i).append(" 1 1\nXXXXX\nXXXIX\nXICXX\nIXXXX\nXXXXX\n");
+    }
+    try (OutputStream out = Files.newOutputStream(compiled.toPath())) {
+      DeckCompiler.write(DeckReader.readDeck(new StringReader(text.toString())), out);
+    }
+    SanguineCard card = DeckReader.readDeck(compiled.getPath()).get(0);
+    assertTrue(card.getInfluence()[1][3]);
+    assertTrue(card.getInfluence()[3][0]);
+    SanguineCard mirrored = DeckReader.readDeck(new StringReader(
+        "Mirrored 1 1\nXXXXX\nXIXXX\nXXCIX\nXXXXI\nXXXXX\n")).get(0);
+    assertEquals(mirrored.getInfluenceMask(Player.RED), card.getInfluenceMask(Player.BLUE));
+    BasicSanguine game = new BasicSanguine(3, 5, compiled.getPath(), 5);
+    assertEquals(5, game.getHand(Player.BLUE).size());
+  }
+
+  @Test
+  public void testTruncatedCompiledDeck() throws IOException {
+    File compiled = folder.newFile("cut.sdeck");
+    DeckCompiler.compile("docs/config.deck", compiled.getPath());
+    byte[] bytes = Files.readAllBytes(compiled.toPath());
+    Files.write(compiled.toPath(), Arrays.copyOf(bytes, bytes.length - 3));
+    try {
+      DeckReader.readDeck(compiled.getPath());
+      fail("expected an error for a truncated deck");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("truncated compiled deck"));
+    }
+  }
+}
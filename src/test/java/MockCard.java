@@ -1,3 +1,4 @@
+import sanguine.model.Player;
 import sanguine.model.SanguineCard;
 
 /**
@@ -42,4 +43,8 @@ public class MockCard implements SanguineCard {
   @Override public boolean[][] getInfluence() {
     return new boolean[5][5];
   }
+
+  @Override public int getInfluenceMask(Player player) {
+    return 0;
+  }
 }
\ No newline at end of file
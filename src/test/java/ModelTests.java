@@ -2,12 +2,25 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
-
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import sanguine.controller.GameStatusListener;
 import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguineBoard;
 import sanguine.model.DeckReader;
+import sanguine.model.MoveBuffer;
 import sanguine.model.Player;
 import sanguine.model.SanguineBoard;
 import sanguine.model.SanguineCard;
@@ -17,12 +30,28 @@ import sanguine.model.SanguineCard;
  */
 public class ModelTests {
 
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   private BasicSanguine game;
   private SanguineBoard board;
 
   private static final String CONFIG_DECK = "docs/config.deck";
   private static final String EXAMPLE_DECK = "docs/example.deck";
 
+  /**
+   * Writes a deck of distinct cost-1 cards to a new file in the temporary folder.
+   */
+  private File writeDeck(String name, int cards) throws IOException {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < cards; i++) {
+      text.append("Card").append(i).append(" 1 1\nXXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXX\n");
+    }
+    File file = folder.newFile(name);
+    Files.write(file.toPath(), text.toString().getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
   /**
    * Sets up a board with the config deck.
    */
@@ -324,4 +353,406 @@ public class ModelTests {
     game.pass();
     assertEquals(Player.RED, game.getCurrentPlayer());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testBitboardBackedGameMatchesBasic() {
+    BasicSanguine bits = new BasicSanguine(new BitboardSanguineBoard(3, 5), CONFIG_DECK, 3);
+    game.playCard(0, 0, 0);
+    bits.playCard(0, 0, 0);
+    game.playCard(0, 0, 4);
+    bits.playCard(0, 0, 4);
+    for (int r = 0; r < 3; r++) {
+      for (int c = 0; c < 5; c++) {
+        assertEquals(game.getCell(r, c).toString(), bits.getCell(r, c).toString());
+        assertEquals(game.getOwner(r, c), bits.getOwner(r, c));
+      }
+      assertEquals(game.getScore(r, Player.RED), bits.getScore(r, Player.RED));
+      assertEquals(game.getScore(r, Player.BLUE), bits.getScore(r, Player.BLUE));
+    }
+  }
+
+  @Test
+  public void testGetBoardIsSnapshot() {
+    game.playCard(0, 0, 0);
+    SanguineBoard snapshot = game.getBoard();
+    String before = snapshot.toString();
+    game.playCard(0, 0, 4);
+    assertEquals(before, snapshot.toString());
+    assertEquals(1, snapshot.getScore(0, Player.RED));
+    assertEquals(0, snapshot.getScore(0, Player.BLUE));
+    assertEquals(1, game.getScore(0, Player.BLUE));
+  }
+
+  /**
+   * Describes every part of the game state that make/unmake must restore.
+   */
+  private static String describe(BasicSanguine g) {
+    StringBuilder sb = new StringBuilder(g.getBoard().toString());
+    for (Player p : Player.values()) {
+      sb.append('\n').append(p).append(':');
+      for (SanguineCard card : g.getHand(p)) {
+        sb.append(' ').append(card.getName());
+      }
+    }
+    return sb.append('\n').append(g.getCurrentPlayer()).append(' ').append(g.isGameOver())
+        .append(' ').append(g.getZobristKey()).toString();
+  }
+
+  /**
+   * Makes moves with the first legal card and cell (or passes) until the game ends, then
+   * unmakes them all, checking each position is restored exactly.
+   */
+  private void checkMakeUnmake(BasicSanguine g) {
+    List<String> states = new ArrayList<>();
+    List<Long> undos = new ArrayList<>();
+    while (!g.isGameOver()) {
+      states.add(describe(g));
+      long undo = -1;
+      int handSize = g.getHand(g.getCurrentPlayer()).size();
+      for (int i = 0; i < handSize && undo == -1; i++) {
+        for (int r = 0; r < g.getBoardHeight() && undo == -1; r++) {
+          for (int c = 0; c < g.getBoardWidth() && undo == -1; c++) {
+            if (g.canPlayCard(i, r, c)) {
+              undo = g.makeMove(i, r, c);
+            }
+          }
+        }
+      }
+      undos.add(undo == -1 ? g.makePass() : undo);
+    }
+    assertTrue(undos.size() > 4);
+    for (int i = undos.size() - 1; i >= 0; i--) {
+      g.unmakeMove(undos.get(i));
+      assertEquals(states.get(i), describe(g));
+    }
+  }
+
+  @Test
+  public void testMakeUnmakeRestoresGame() {
+    checkMakeUnmake(game);
+    checkMakeUnmake(new BasicSanguine(new BitboardSanguineBoard(3, 5), CONFIG_DECK, 3));
+  }
+
+  @Test
+  public void testFailedMakeMoveLeavesGameUnchanged() {
+    String before = describe(game);
+    try {
+      game.makeMove(0, 0, 4);
+    } catch (IllegalStateException e) {
+      // expected, blue owns the cell
+    }
+    assertEquals(before, describe(game));
+    long undo = game.makeMove(0, 0, 0);
+    game.unmakeMove(undo);
+    assertEquals(before, describe(game));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMakeMoveAfterGameOver() {
+    game.pass();
+    game.pass();
+    game.makePass();
+  }
+
+  @Test
+  public void testZobristKeyChangesWithTurnAndPasses() {
+    long start = game.getZobristKey();
+    game.pass();
+    long afterPass = game.getZobristKey();
+    assertFalse(start == afterPass);
+    game.pass();
+    assertFalse(afterPass == game.getZobristKey());
+  }
+
+  @Test
+  public void testZobristKeyMatchesAcrossBoards() {
+    BasicSanguine bits = new BasicSanguine(new BitboardSanguineBoard(3, 5), CONFIG_DECK, 3);
+    assertEquals(game.getZobristKey(), bits.getZobristKey());
+    game.playCard(0, 0, 0);
+    bits.playCard(0, 0, 0);
+    assertEquals(game.getZobristKey(), bits.getZobristKey());
+  }
+
+  /**
+   * Checks the generated moves are exactly the plays canPlayCard allows.
+   */
+  private static void checkLegalMoves(BasicSanguine g, MoveBuffer moves) {
+    g.legalMoves(g.getCurrentPlayer(), moves);
+    int count = 0;
+    for (int i = 0; i < g.getHand(g.getCurrentPlayer()).size(); i++) {
+      for (int r = 0; r < g.getBoardHeight(); r++) {
+        for (int c = 0; c < g.getBoardWidth(); c++) {
+          if (g.canPlayCard(i, r, c)) {
+            count++;
+          }
+        }
+      }
+    }
+    assertEquals(count, moves.size());
+    for (int i = 0; i < moves.size(); i++) {
+      int move = moves.get(i);
+      assertTrue(g.canPlayCard(MoveBuffer.cardIndex(move), MoveBuffer.row(move),
+          MoveBuffer.col(move)));
+    }
+  }
+
+  @Test
+  public void testLegalMovesMatchCanPlayCard() {
+    MoveBuffer moves = new MoveBuffer(1);
+    checkLegalMoves(game, moves);
+    assertEquals(MoveBuffer.encode(0, 0, 0), moves.get(0));
+    game.playCard(0, 0, 0);
+    checkLegalMoves(game, moves);
+    assertEquals(MoveBuffer.encode(0, 0, 4), moves.get(0));
+    game.playCard(0, 0, 4);
+    checkLegalMoves(game, moves);
+    game.pass();
+    checkLegalMoves(game, moves);
+  }
+
+  @Test
+  public void testMoveBufferPacking() {
+    int move = MoveBuffer.encode(2047, 1023, 17);
+    assertEquals(2047, MoveBuffer.cardIndex(move));
+    assertEquals(1023, MoveBuffer.row(move));
+    assertEquals(17, MoveBuffer.col(move));
+  }
+
+  @Test
+  public void testPackedMovesAreNeverNegative() {
+    assertTrue(MoveBuffer.encode(MoveBuffer.MAX_CARD_INDEX, MoveBuffer.MAX_POSITION,
+        MoveBuffer.MAX_POSITION) >= 0);
+    assertTrue(MoveBuffer.encode(128, 0, 0) >= 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMoveBufferOutOfRange() {
+    MoveBuffer.encode(2048, 0, 0);
+  }
+
+  @Test
+  public void testLegalMovesWithLargeHand() throws IOException {
+    BasicSanguine big = new BasicSanguine(3, 5, writeDeck("big.deck", 900).getPath(), 300);
+    MoveBuffer moves = new MoveBuffer();
+    checkLegalMoves(big, moves);
+    assertEquals(900, moves.size());
+    assertEquals(299, MoveBuffer.cardIndex(moves.get(899)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorHandTooLargeToEncode() throws IOException {
+    new BasicSanguine(3, 5, writeDeck("huge.deck", 3 * 2049).getPath(), 2049);
+  }
+
+  @Test
+  public void testConstructorBoardTooLargeToEncode() {
+    try {
+      new BasicSanguine(new BitboardSanguineBoard(1, 1025), CONFIG_DECK, 3);
+      fail("expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertEquals("board too large", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testZeroCopyAccessorsMatchCopies() {
+    game.playCard(0, 0, 0);
+    for (int r = 0; r < game.getBoardHeight(); r++) {
+      for (int c = 0; c < game.getBoardWidth(); c++) {
+        assertEquals(game.getCell(r, c).getPawnCount(), game.pawnCount(r, c));
+        SanguineCard card = game.cardAt(r, c);
+        assertEquals(game.getCell(r, c).getCard() == null, card == null);
+      }
+    }
+    assertEquals("Security", game.cardAt(0, 0).getName());
+    for (Player p : Player.values()) {
+      List<SanguineCard> hand = game.getHand(p);
+      assertEquals(hand.size(), game.handSize(p));
+      for (int i = 0; i < hand.size(); i++) {
+        assertEquals(hand.get(i), game.handCard(p, i));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testHandCardOutOfBounds() {
+    game.handCard(Player.RED, game.handSize(Player.RED));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPawnCountInvalidPosition() {
+    game.pawnCount(0, 5);
+  }
+
+  @Test
+  public void testPlayersDrawFromDeckInOrder() {
+    List<SanguineCard> master = DeckReader.readDeck(CONFIG_DECK);
+    game.playCard(0, 0, 0);
+    game.pass();
+    List<SanguineCard> red = game.getHand(Player.RED);
+    List<SanguineCard> blue = game.getHand(Player.BLUE);
+    assertEquals(master.get(3).getName(), red.get(red.size() - 1).getName());
+    assertEquals(master.get(3).getName(), blue.get(blue.size() - 1).getName());
+    game.pass();
+    red = game.getHand(Player.RED);
+    assertEquals(master.get(4).getName(), red.get(red.size() - 1).getName());
+  }
+
+  /**
+   * Adds a listener to the game that records every event it receives.
+   */
+  private static List<String> recordEvents(BasicSanguine g) {
+    List<String> events = new ArrayList<>();
+    g.addGameStatusListener(new GameStatusListener() {
+      @Override
+      public void turnChanged(Player currentPlayer) {
+        events.add("turn " + currentPlayer);
+      }
+
+      @Override
+      public void gameOver(Player winner, int redScore, int blueScore) {
+        events.add("over " + winner);
+      }
+    });
+    return events;
+  }
+
+  @Test
+  public void testApplyMovesNotifiesOnce() {
+    BasicSanguine stepped = new BasicSanguine(3, 5, CONFIG_DECK, 3);
+    stepped.playCard(0, 0, 0);
+    stepped.playCard(0, 0, 4);
+    stepped.pass();
+    stepped.pass();
+    List<String> events = recordEvents(game);
+    game.applyMoves(MoveBuffer.encode(0, 0, 0), MoveBuffer.encode(0, 0, 4), MoveBuffer.PASS,
+        MoveBuffer.PASS);
+    assertEquals(describe(stepped), describe(game));
+    assertEquals(List.of("turn RED", "over null"), events);
+  }
+
+  @Test
+  public void testApplyMovesNotifiesOnceWhenAMoveFails() {
+    List<String> events = recordEvents(game);
+    try {
+      game.applyMoves(MoveBuffer.encode(0, 0, 0), MoveBuffer.encode(0, 0, 0));
+    } catch (IllegalStateException e) {
+      // expected, red's card is on (0, 0)
+    }
+    assertEquals(Player.BLUE, game.getCurrentPlayer());
+    assertEquals(1, game.getScore(0, Player.RED));
+    assertEquals(List.of("turn BLUE"), events);
+  }
+
+  @Test
+  public void testApplyMovesSilentWhenFirstMoveFails() {
+    List<String> events = recordEvents(game);
+    try {
+      // red has no pawns on (0, 4)
+      game.applyMoves(MoveBuffer.encode(0, 0, 4), MoveBuffer.PASS);
+    } catch (IllegalStateException e) {
+      // expected
+    }
+    assertEquals(Player.RED, game.getCurrentPlayer());
+    assertEquals(List.of(), events);
+    game.applyMoves();
+    assertEquals(List.of(), events);
+  }
+
+  /**
+   * Plays a seeded game to the end with the first legal move each turn and describes it.
+   */
+  private static String playSeeded(long seed) {
+    BasicSanguine g = new BasicSanguine(3, 5, EXAMPLE_DECK, 5, seed);
+    MoveBuffer moves = new MoveBuffer();
+    StringBuilder sb = new StringBuilder();
+    while (!g.isGameOver()) {
+      sb.append(g.getHand(g.getCurrentPlayer()).get(0).getName()).append(' ');
+      g.legalMoves(g.getCurrentPlayer(), moves);
+      if (moves.size() == 0) {
+        g.pass();
+      } else {
+        int m = moves.get(0);
+        g.playCard(MoveBuffer.cardIndex(m), MoveBuffer.row(m), MoveBuffer.col(m));
+      }
+    }
+    return sb.append(describe(g)).toString();
+  }
+
+  @Test
+  public void testSeededGamesAreReproducible() {
+    assertEquals(playSeeded(42), playSeeded(42));
+    assertFalse(playSeeded(42).equals(playSeeded(43)));
+    assertEquals(42L, new BasicSanguine(3, 5, CONFIG_DECK, 3, 42).getSeed().getAsLong());
+    assertFalse(game.getSeed().isPresent());
+  }
+
+  @Test
+  public void testShuffledDealsAreDrawnFromTheDeck() {
+    BasicSanguine shuffled = new BasicSanguine(3, 5, EXAMPLE_DECK, 5, 7);
+    List<String> names = new ArrayList<>();
+    for (SanguineCard card : DeckReader.readDeck(EXAMPLE_DECK)) {
+      names.add(card.getName());
+    }
+    List<String> red = new ArrayList<>();
+    List<String> blue = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      red.add(shuffled.handCard(Player.RED, i).getName());
+      blue.add(shuffled.handCard(Player.BLUE, i).getName());
+    }
+    assertTrue(names.containsAll(red));
+    assertTrue(names.containsAll(blue));
+    assertFalse(red.equals(blue));
+    assertFalse(red.equals(names.subList(0, 5)));
+  }
+
+  /**
+   * Returns the sorted ids of the cards in the given player's hand.
+   */
+  private static int[] handIds(BasicSanguine g, Player player) {
+    int[] ids = new int[g.handSize(player)];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = g.handCardId(player, i);
+    }
+    Arrays.sort(ids);
+    return ids;
+  }
+
+  @Test
+  public void testDeterminizeKeepsWhatTheViewerSees() {
+    BasicSanguine g = new BasicSanguine(3, 5, EXAMPLE_DECK, 5, 7);
+    MoveBuffer moves = new MoveBuffer();
+    for (int i = 0; i < 3; i++) {
+      g.legalMoves(g.getCurrentPlayer(), moves);
+      int m = moves.get(0);
+      g.playCard(MoveBuffer.cardIndex(m), MoveBuffer.row(m), MoveBuffer.col(m));
+    }
+    String before = describe(g);
+    boolean dealtAgain = false;
+    for (int seed = 0; seed < 8; seed++) {
+      BasicSanguine sample = g.determinize(Player.BLUE, new SplittableRandom(seed));
+      assertEquals(g.getBoard().toString(), sample.getBoard().toString());
+      assertEquals(g.getHand(Player.BLUE), sample.getHand(Player.BLUE));
+      assertEquals(g.handSize(Player.RED), sample.handSize(Player.RED));
+      dealtAgain |= !Arrays.equals(handIds(g, Player.RED), handIds(sample, Player.RED));
+      assertEquals(sample.getZobristKey(),
+          g.determinize(Player.BLUE, new SplittableRandom(seed)).getZobristKey());
+      checkMakeUnmake(sample);
+    }
+    assertTrue(dealtAgain);
+    assertEquals(before, describe(g));
+  }
+
+  @Test
+  public void testKeyDependsOnDrawOrder() {
+    // no cards are dealt, so nothing but the draw order tells these games apart
+    BasicSanguine first = new BasicSanguine(3, 5, EXAMPLE_DECK, 0, 1);
+    BasicSanguine second = new BasicSanguine(3, 5, EXAMPLE_DECK, 0, 2);
+    assertEquals(describe(first).replaceAll("-?\\d+$", ""),
+        describe(second).replaceAll("-?\\d+$", ""));
+    assertFalse(first.getZobristKey() == second.getZobristKey());
+    assertEquals(first.getZobristKey(),
+        new BasicSanguine(3, 5, EXAMPLE_DECK, 0, 1).getZobristKey());
+    assertEquals(first.getZobristKey(), first.copy().getZobristKey());
+  }
+}
@@ -0,0 +1,352 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import sanguine.model.BasicSanguine;
+import sanguine.model.ConcurrentSanguine;
+import sanguine.model.MoveBuffer;
+import sanguine.model.Player;
+import sanguine.strategies.AlphaBetaStrategy;
+import sanguine.strategies.EndgameSolver;
+import sanguine.strategies.FillFirst;
+import sanguine.strategies.MonteCarloStrategy;
+import sanguine.strategies.Move;
+import sanguine.strategies.SearchStats;
+import sanguine.strategies.TranspositionTable;
+
+/**
+ * Tests for the strategies that search ahead.
+ */
+public class SearchStrategyTests {
+
+  private static final String CONFIG_DECK = "docs/config.deck";
+
+  /**
+   * Returns the row score difference for the player to move, or a win or loss score if
+   * the game is over, the same way the alpha-beta strategy scores positions.
+   */
+  private static int evaluate(BasicSanguine game) {
+    Player p = game.getCurrentPlayer();
+    int margin = game.getTotalScore(p) - game.getTotalScore(p.opponent());
+    if (!game.isGameOver()) {
+      return margin;
+    }
+    return margin > 0 ? 1_000_000 + margin : margin < 0 ? -1_000_000 + margin : 0;
+  }
+
+  /**
+   * Plain minimax without pruning, for checking the strategies against.
+   */
+  private static int minimax(BasicSanguine game, int depth) {
+    if (depth == 0 || game.isGameOver()) {
+      return evaluate(game);
+    }
+    MoveBuffer moves = new MoveBuffer();
+    game.legalMoves(game.getCurrentPlayer(), moves);
+    long undo = game.makePass();
+    int best = -minimax(game, depth - 1);
+    game.unmakeMove(undo);
+    for (int i = 0; i < moves.size(); i++) {
+      int m = moves.get(i);
+      undo = game.makeMove(MoveBuffer.cardIndex(m), MoveBuffer.row(m), MoveBuffer.col(m));
+      best = Math.max(best, -minimax(game, depth - 1));
+      game.unmakeMove(undo);
+    }
+    return best;
+  }
+
+  /**
+   * Plays the move on the game.
+   */
+  private static void play(BasicSanguine game, Move move) {
+    if (move.isPass()) {
+      game.pass();
+    } else {
+      game.playCard(move.getCardIndex(), move.getRow(), move.getCol());
+    }
+  }
+
+  @Test
+  public void testAlphaBetaMatchesMinimax() {
+    BasicSanguine game = new BasicSanguine(3, 5, CONFIG_DECK, 3);
+    game.playCard(0, 0, 0);
+    game.playCard(0, 0, 4);
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(60_000, 3, new FillFirst());
+    Move move = strategy.chooseMove(game, Player.RED);
+    assertEquals(3, strategy.getLastStats().depth());
+
+    int best = minimax(game, 3);
+    play(game, move);
+    assertEquals(best, -minimax(game, 2));
+  }
+
+  @Test
+  public void testAlphaBetaSolvesSmallGame() {
+    BasicSanguine game = new BasicSanguine(1, 3, CONFIG_DECK, 2);
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(60_000, 40, new FillFirst());
+    Move move = strategy.chooseMove(game, Player.RED);
+    SearchStats stats = strategy.getLastStats();
+    assertTrue(stats.depth() < 40);
+    assertTrue(stats.nodes() > 0);
+
+    int best = minimax(game, 40);
+    play(game, move);
+    assertEquals(best, -minimax(game, 39));
+  }
+
+  @Test
+  public void testAlphaBetaLeavesModelUnchanged() {
+    BasicSanguine game = new BasicSanguine(3, 5, CONFIG_DECK, 5);
+    game.playCard(0, 1, 0);
+    String board = game.getBoard().toString();
+    long key = game.getZobristKey();
+    new AlphaBetaStrategy(50).chooseMove(game, Player.BLUE);
+    assertEquals(board, game.getBoard().toString());
+    assertEquals(key, game.getZobristKey());
+    assertEquals(Player.BLUE, game.getCurrentPlayer());
+  }
+
+  @Test
+  public void testAlphaBetaAnswersWithinBudget() {
+    BasicSanguine game = new BasicSanguine(5, 7, "docs/big.deck", 5);
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(100);
+    long start = System.nanoTime();
+    Move move = strategy.chooseMove(game, Player.RED);
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    assertTrue("took " + elapsedMillis + " ms", elapsedMillis < 1000);
+    assertTrue(move.isPass() || game.canPlayCard(move.getCardIndex(), move.getRow(),
+        move.getCol()));
+    assertTrue(strategy.getLastStats().depth() >= 1);
+  }
+
+  @Test
+  public void testAlphaBetaSearchesConcurrentGame() {
+    ConcurrentSanguine game = new ConcurrentSanguine(3, 5, CONFIG_DECK, 3);
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(50);
+    Move move = strategy.chooseMove(game, Player.RED);
+    assertTrue(strategy.getLastStats().nodes() > 0);
+    assertTrue(move.isPass() || game.canPlayCard(move.getCardIndex(), move.getRow(),
+        move.getCol()));
+  }
+
+  @Test
+  public void testAlphaBetaFallsBackOnSnapshots() {
+    BasicSanguine game = new BasicSanguine(3, 5, CONFIG_DECK, 3);
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(50);
+    Move move = strategy.chooseMove(game.snapshot(), Player.RED);
+    assertEquals(new FillFirst().chooseMove(game, Player.RED), move);
+    assertEquals(0, strategy.getLastStats().nodes());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAlphaBetaRejectsBadBudget() {
+    new AlphaBetaStrategy(0);
+  }
+
+  @Test
+  public void testMonteCarloChoosesLegalMove() {
+    BasicSanguine game = new BasicSanguine(3, 5, CONFIG_DECK, 5);
+    game.playCard(0, 1, 0);
+    String board = game.getBoard().toString();
+    long key = game.getZobristKey();
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      MonteCarloStrategy strategy = new MonteCarloStrategy(100, pool, 4, 7, new FillFirst());
+      Move move = strategy.chooseMove(game, Player.BLUE);
+      assertTrue(move.isPass() || game.canPlayCard(move.getCardIndex(), move.getRow(),
+          move.getCol()));
+      SearchStats stats = strategy.getLastStats();
+      assertTrue(stats.nodes() >= 4);
+      assertTrue(stats.depth() >= 1);
+      assertTrue("took " + stats, stats.elapsedNanos() < 1_000_000_000L);
+    } finally {
+      pool.shutdown();
+    }
+    assertEquals(board, game.getBoard().toString());
+    assertEquals(key, game.getZobristKey());
+  }
+
+  @Test
+  public void testMonteCarloPlaysWholeGame() {
+    ConcurrentSanguine game = new ConcurrentSanguine(1, 3, CONFIG_DECK, 2);
+    MonteCarloStrategy strategy = new MonteCarloStrategy(20);
+    int moves = 0;
+    while (!game.isGameOver()) {
+      strategy.makeMove(game, game.getCurrentPlayer());
+      moves++;
+    }
+    assertTrue(moves >= 2);
+  }
+
+  @Test
+  public void testMonteCarloFallsBackOnSnapshots() {
+    BasicSanguine game = new BasicSanguine(3, 5, CONFIG_DECK, 3);
+    MonteCarloStrategy strategy = new MonteCarloStrategy(50);
+    assertEquals(new FillFirst().chooseMove(game, Player.RED),
+        strategy.chooseMove(game.snapshot(), Player.RED));
+    assertEquals(0, strategy.getLastStats().nodes());
+  }
+
+  @Test
+  public void testTableStoresAndProbes() {
+    TranspositionTable table = new TranspositionTable(1 << 16);
+    int move = MoveBuffer.encode(3, 2, 4);
+    table.store(42L, 5, TranspositionTable.LOWER, -1234, move);
+    table.store(43L, 0, TranspositionTable.EXACT, 0, -1);
+    long entry = table.probe(42L);
+    assertEquals(5, TranspositionTable.depth(entry));
+    assertEquals(TranspositionTable.LOWER, TranspositionTable.bound(entry));
+    assertEquals(-1234, TranspositionTable.score(entry));
+    assertEquals(move, TranspositionTable.move(entry));
+    entry = table.probe(43L);
+    assertFalse(entry == TranspositionTable.MISS);
+    assertEquals(0, TranspositionTable.score(entry));
+    assertEquals(-1, TranspositionTable.move(entry));
+    assertEquals(TranspositionTable.MISS, table.probe(44L));
+    table.clear();
+    assertEquals(TranspositionTable.MISS, table.probe(42L));
+  }
+
+  @Test
+  public void testTableKeepsDeepEntries() {
+    // one bucket, so every key collides
+    TranspositionTable table = new TranspositionTable(40);
+    assertEquals(2, table.capacity());
+    assertEquals(32, table.sizeBytes());
+    table.store(1L, 10, TranspositionTable.EXACT, 1, 0);
+    table.store(2L, 2, TranspositionTable.EXACT, 2, 0);
+    table.store(3L, 1, TranspositionTable.EXACT, 3, 0);
+    assertEquals(1, TranspositionTable.score(table.probe(1L)));
+    assertEquals(TranspositionTable.MISS, table.probe(2L));
+    assertEquals(3, TranspositionTable.score(table.probe(3L)));
+    table.store(4L, 12, TranspositionTable.UPPER, 4, 0);
+    assertEquals(TranspositionTable.MISS, table.probe(1L));
+    assertEquals(4, TranspositionTable.score(table.probe(4L)));
+  }
+
+  @Test
+  public void testTableClampsScores() {
+    TranspositionTable table = new TranspositionTable(1024);
+    table.store(7L, 99, TranspositionTable.EXACT, Integer.MIN_VALUE, 0);
+    long entry = table.probe(7L);
+    assertEquals(TranspositionTable.MIN_SCORE, TranspositionTable.score(entry));
+  }
+
+  @Test
+  public void testTableReservesMaxDepthForSolvedEntries() {
+    TranspositionTable table = new TranspositionTable(1024);
+    table.store(7L, 99, TranspositionTable.EXACT, 0, 0);
+    table.store(8L, TranspositionTable.MAX_DEPTH, TranspositionTable.EXACT, 0, 0);
+    assertEquals(TranspositionTable.MAX_DEPTH - 1, TranspositionTable.depth(table.probe(7L)));
+    assertEquals(TranspositionTable.MAX_DEPTH, TranspositionTable.depth(table.probe(8L)));
+  }
+
+  @Test
+  public void testAlphaBetaWithTableMatchesMinimax() {
+    BasicSanguine game = new BasicSanguine(3, 5, CONFIG_DECK, 3);
+    game.playCard(0, 0, 0);
+    game.playCard(0, 0, 4);
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(60_000, 4, new FillFirst(),
+        new TranspositionTable(1 << 20));
+    Move move = strategy.chooseMove(game, Player.RED);
+    assertEquals(4, strategy.getLastStats().depth());
+
+    int best = minimax(game, 4);
+    play(game, move);
+    assertEquals(best, -minimax(game, 3));
+  }
+
+  @Test
+  public void testTableSavesWorkSolvingSmallGame() {
+    BasicSanguine game = new BasicSanguine(1, 3, CONFIG_DECK, 2);
+    AlphaBetaStrategy plain = new AlphaBetaStrategy(60_000, 40, new FillFirst());
+    AlphaBetaStrategy hashed = new AlphaBetaStrategy(60_000, 40, new FillFirst(),
+        new TranspositionTable(1 << 20));
+    Move move = hashed.chooseMove(game, Player.RED);
+    plain.chooseMove(game, Player.RED);
+    assertTrue(hashed.getLastStats().nodes() < plain.getLastStats().nodes());
+
+    int best = minimax(game, 40);
+    play(game, move);
+    assertEquals(best, -minimax(game, 39));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTableTooSmall() {
+    new TranspositionTable(16);
+  }
+
+  @Test
+  public void testEndgameSolverPlaysOptimally() {
+    BasicSanguine game = new BasicSanguine(1, 3, CONFIG_DECK, 2);
+    EndgameSolver solver = new EndgameSolver(new FillFirst(), 3, 60_000);
+    while (!game.isGameOver()) {
+      Move move = solver.chooseMove(game, game.getCurrentPlayer());
+      assertTrue(solver.wasLastMoveSolved());
+      int best = minimax(game, 40);
+      play(game, move);
+      assertEquals(best, -minimax(game, 39));
+    }
+  }
+
+  @Test
+  public void testEndgameSolverDelegatesBeforeThreshold() {
+    BasicSanguine game = new BasicSanguine(3, 5, CONFIG_DECK, 3);
+    assertEquals(15, EndgameSolver.openCells(game));
+    EndgameSolver solver = new EndgameSolver(new FillFirst(), 14, 1000);
+    assertEquals(new FillFirst().chooseMove(game, Player.RED),
+        solver.chooseMove(game, Player.RED));
+    assertFalse(solver.wasLastMoveSolved());
+    game.playCard(0, 0, 0);
+    assertEquals(14, EndgameSolver.openCells(game));
+  }
+
+  @Test
+  public void testEndgameSolverFallsBackWhenOutOfTime() {
+    BasicSanguine game = new BasicSanguine(5, 7, "docs/big.deck", 5);
+    EndgameSolver solver = new EndgameSolver(new FillFirst(), 35, 1);
+    assertEquals(new FillFirst().chooseMove(game, Player.RED),
+        solver.chooseMove(game, Player.RED));
+    assertFalse(solver.wasLastMoveSolved());
+    assertTrue(solver.getLastStats().nodes() > 0);
+  }
+
+  @Test
+  public void testEndgameSolverAgreesWithAlphaBeta() {
+    BasicSanguine game = new BasicSanguine(3, 5, CONFIG_DECK, 3);
+    FillFirst fill = new FillFirst();
+    while (EndgameSolver.openCells(game) > 7 && !game.isGameOver()) {
+      fill.makeMove(game, game.getCurrentPlayer());
+    }
+    TranspositionTable table = new TranspositionTable(1 << 20);
+    EndgameSolver solver = new EndgameSolver(fill, 7, 60_000, table);
+    Move solved = solver.chooseMove(game, game.getCurrentPlayer());
+    assertTrue(solver.wasLastMoveSolved());
+
+    // an alpha-beta search deep enough to reach the end must find a move just as good
+    AlphaBetaStrategy search = new AlphaBetaStrategy(60_000, 40, fill,
+        new TranspositionTable(1 << 20));
+    Move searched = search.chooseMove(game, game.getCurrentPlayer());
+    assertTrue(search.getLastStats().depth() < 40);
+    assertEquals(valueAfter(game, solved, table), valueAfter(game, searched, table));
+  }
+
+  /**
+   * Returns the final score, for the player who moves now, of making the move and then
+   * letting the solver play both sides perfectly to the end.
+   */
+  private static int valueAfter(BasicSanguine game, Move move, TranspositionTable table) {
+    BasicSanguine copy = game.copy();
+    Player mover = copy.getCurrentPlayer();
+    play(copy, move);
+    EndgameSolver solver = new EndgameSolver(new FillFirst(), 15, 60_000, table);
+    while (!copy.isGameOver()) {
+      play(copy, solver.chooseMove(copy, copy.getCurrentPlayer()));
+      assertTrue(solver.wasLastMoveSolved());
+    }
+    int margin = copy.getTotalScore(mover) - copy.getTotalScore(mover.opponent());
+    return margin > 0 ? 1_000_000 + margin : margin < 0 ? -1_000_000 + margin : 0;
+  }
+}
@@ -115,8 +115,9 @@ public class StrategyTests {
     assertEquals(new Move(true),
             maximize.chooseMove(this.endOfGame, Player.RED));
 
-    //testing that the strategy passes if it cannot get a higher score than the other player
-    assertEquals(new Move(0, 0, 0, true),
+    //testing that cards too weak to take the row are skipped: blue leads row 0 by 1, so
+    //neither Security (value 1) wins it, but the first Levrikon (value 2) does
+    assertEquals(new Move(0, 0, 2),
             maximize.chooseMove(this.maximizeRowScorePass, Player.RED));
   }
 
@@ -141,7 +142,8 @@ public class StrategyTests {
     assertEquals(0, this.maximizeRowScorePass.getTotalScore(Player.RED));
     maximize.makeMove(this.maximizeRowScorePass, Player.RED);
     assertEquals(Player.BLUE, this.maximizeRowScorePass.getCurrentPlayer());
-    assertEquals(0, this.maximizeRowScorePass.getTotalScore(Player.RED));
+    assertEquals(2, this.maximizeRowScorePass.getScore(0, Player.RED));
+    assertEquals("Levrikon", this.maximizeRowScorePass.getCell(0, 0).getCard().getName());
   }
 
   @Test